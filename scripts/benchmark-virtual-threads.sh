@@ -0,0 +1,85 @@
+#!/usr/bin/env bash
+# Compara a vazão da aplicação com threads de plataforma (modelo atual) e com threads virtuais.
+#
+# Sobe o jar duas vezes contra o mesmo banco (por padrão o Postgres do docker-compose), cria um
+# usuário de teste e dispara carga concorrente com o hey (https://github.com/rakyll/hey) em três
+# rotas: catálogo (JDBC), carrinho autenticado (JWT + JDBC) e login (BCrypt).
+#
+# Uso: scripts/benchmark-virtual-threads.sh [concorrência] [duração]
+#   ex.: scripts/benchmark-virtual-threads.sh 500 30s
+set -euo pipefail
+
+CONCURRENCY="${1:-500}"
+DURATION="${2:-30s}"
+PORT="${PORT:-8080}"
+BASE_URL="http://localhost:${PORT}"
+DB_URL="${SPRING_DATASOURCE_URL:-jdbc:postgresql://localhost:54321/shoppingcart}"
+DB_USER="${SPRING_DATASOURCE_USERNAME:-postgres}"
+DB_PASSWORD="${SPRING_DATASOURCE_PASSWORD:-postgres}"
+EMAIL="bench-$(date +%s)@example.com"
+PASSWORD="bench-password"
+
+command -v hey >/dev/null || { echo "hey não encontrado no PATH" >&2; exit 1; }
+
+cd "$(dirname "$0")/.."
+./mvnw -q -DskipTests package
+JAR="$(ls target/shoppingcart-*.jar | grep -v plain | head -n 1)"
+
+run_mode() {
+    local virtual="$1"
+    local log="target/benchmark-virtual-${virtual}.log"
+    # Threads virtuais pelo perfil; o pool do Hikari é o mesmo nos dois modos para comparar só as threads
+    local profile="default"
+    [ "$virtual" = "true" ] && profile="virtual-threads"
+
+    java -jar "$JAR" \
+        --server.port="$PORT" \
+        --spring.datasource.url="$DB_URL" \
+        --spring.datasource.username="$DB_USER" \
+        --spring.datasource.password="$DB_PASSWORD" \
+        --spring.profiles.active="$profile" \
+        --spring.datasource.hikari.maximum-pool-size=20 \
+        --rate-limit.enabled=false \
+        --outbox.publisher=in-memory \
+        >"$log" 2>&1 &
+    local pid=$!
+    trap 'kill $pid 2>/dev/null || true' EXIT
+
+    until curl -sf "$BASE_URL/api/products" >/dev/null; do
+        kill -0 "$pid" 2>/dev/null || { echo "A aplicação não subiu, veja $log" >&2; exit 1; }
+        sleep 1
+    done
+
+    curl -sf -o /dev/null -X POST "$BASE_URL/api/auth/register" -H 'Content-Type: application/json' \
+        -d "{\"name\":\"Bench\",\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\"}" || true
+    local login
+    login="$(curl -si -X POST "$BASE_URL/api/auth/login" -H 'Content-Type: application/json' \
+        -d "{\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\"}")"
+    local token user_id
+    token="$(echo "$login" | sed -n 's/^[Ss]et-[Cc]ookie: authToken=\([^;]*\).*/\1/p' | head -n 1)"
+    user_id="$(echo "$login" | sed -n 's/.*"id":\([0-9]*\).*/\1/p' | head -n 1)"
+
+    echo "== spring.threads.virtual.enabled=$virtual (concorrência $CONCURRENCY, $DURATION) =="
+    bench "catálogo" "$BASE_URL/api/products"
+    bench "carrinho" "$BASE_URL/api/cart/$user_id" -H "Cookie: authToken=$token"
+    bench "login" "$BASE_URL/api/auth/login" -m POST -T 'application/json' \
+        -d "{\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\"}"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+bench() {
+    local name="$1" url="$2"
+    shift 2
+    local summary
+    summary="$(hey -z "$DURATION" -c "$CONCURRENCY" "$@" "$url")"
+    printf '%-10s %s | %s | %s\n' "$name" \
+        "$(echo "$summary" | grep 'Requests/sec' | xargs)" \
+        "$(echo "$summary" | grep '99% in' | xargs)" \
+        "$(echo "$summary" | grep -A5 'Status code distribution' | grep '\[' | xargs)"
+}
+
+run_mode false
+run_mode true
@@ -0,0 +1,104 @@
+#!/usr/bin/env bash
+# Compara a imagem nativa (perfil Maven native, GraalVM 22.3+ no JAVA_HOME) com o jar na JVM:
+# tempo de inicialização ("process running for" do log do Spring Boot) e memória residente
+# (VmRSS do processo, Linux) logo após subir e depois de REQUESTS chamadas a GET /api/products.
+#
+# Cada modo sobe RUNS vezes contra o mesmo banco (por padrão o Postgres do docker-compose);
+# o relatório com as medianas vai para target/native/report.md.
+#
+# Uso: scripts/compare-native.sh [execuções]
+#   ex.: REQUESTS=500 scripts/compare-native.sh 5
+set -euo pipefail
+
+RUNS="${1:-5}"
+REQUESTS="${REQUESTS:-200}"
+PORT="${PORT:-8080}"
+DB_URL="${SPRING_DATASOURCE_URL:-jdbc:postgresql://localhost:54321/shoppingcart}"
+DB_USER="${SPRING_DATASOURCE_USERNAME:-postgres}"
+DB_PASSWORD="${SPRING_DATASOURCE_PASSWORD:-postgres}"
+DB_ARGS="--spring.datasource.url=$DB_URL --spring.datasource.username=$DB_USER --spring.datasource.password=$DB_PASSWORD --outbox.publisher=file"
+
+cd "$(dirname "$0")/.."
+WORK="$(mktemp -d)"
+trap 'rm -rf "$WORK"' EXIT
+
+# Builds separados: o perfil native instrumenta as entidades em target/classes
+./mvnw -q -DskipTests clean package
+cp "$(ls target/shoppingcart-*.jar | grep -v plain | head -n 1)" "$WORK/shoppingcart.jar"
+./mvnw -q -DskipTests -Pnative clean package native:compile
+mkdir -p target/native
+cp "$WORK/shoppingcart.jar" target/native/shoppingcart.jar
+NATIVE="target/shoppingcart"
+
+# Sobe o comando, espera o "Started", aplica a carga e imprime "segundos rss_inicial_kb rss_carga_kb"
+run_once() {
+    local log="target/native/run.log"
+    # shellcheck disable=SC2086
+    "$@" --server.port="$PORT" $DB_ARGS >"$log" 2>&1 &
+    local pid=$!
+    trap 'kill $pid 2>/dev/null || true' EXIT
+
+    until grep -q "Started ShoppingCartApplication" "$log"; do
+        kill -0 "$pid" 2>/dev/null || { echo "A aplicação não subiu, veja $log" >&2; exit 1; }
+        sleep 0.1
+    done
+    local seconds idle loaded
+    seconds="$(sed -n 's/.*process running for \([0-9.]*\)).*/\1/p' "$log" | head -n 1)"
+    idle="$(rss_kb "$pid")"
+    for _ in $(seq "$REQUESTS"); do
+        curl -sf -o /dev/null "http://localhost:$PORT/api/products"
+    done
+    loaded="$(rss_kb "$pid")"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+    echo "$seconds $idle $loaded"
+}
+
+rss_kb() {
+    awk '/^VmRSS:/ { print $2 }' "/proc/$1/status"
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2 ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+# Imprime "mediana_segundos mediana_rss_inicial_mb mediana_rss_carga_mb"
+measure() {
+    local name="$1"
+    shift
+    local results="$WORK/$name.txt"
+    : >"$results"
+    for _ in $(seq "$RUNS"); do
+        run_once "$@" >>"$results"
+    done
+    local seconds idle loaded
+    seconds="$(awk '{ print $1 }' "$results" | median)"
+    idle="$(awk '{ print $2 / 1024 }' "$results" | median)"
+    loaded="$(awk '{ print $3 / 1024 }' "$results" | median)"
+    printf '%-8s inicialização %6ss  RSS %6.0f MB  RSS após carga %6.0f MB\n' "$name" "$seconds" "$idle" "$loaded" >&2
+    echo "$seconds $idle $loaded"
+}
+
+echo "== JVM x nativo ($RUNS execuções por modo, $REQUESTS requisições) ==" >&2
+JVM_RESULT="$(measure jvm java -jar target/native/shoppingcart.jar)"
+NATIVE_RESULT="$(measure native "$NATIVE")"
+read -r JVM_S JVM_IDLE JVM_LOADED <<<"$JVM_RESULT"
+read -r NATIVE_S NATIVE_IDLE NATIVE_LOADED <<<"$NATIVE_RESULT"
+
+REPORT="target/native/report.md"
+{
+    echo "# JVM x imagem nativa"
+    echo
+    echo "Commit $(git rev-parse --short HEAD 2>/dev/null || echo unknown), $(date -u +%Y-%m-%dT%H:%M:%SZ)."
+    echo "Medianas de $RUNS execuções; carga: $REQUESTS chamadas a GET /api/products."
+    echo
+    echo "| Modo | Inicialização (s) | RSS após subir (MB) | RSS após carga (MB) | Binário (MB) |"
+    echo "|------|------------------:|--------------------:|--------------------:|-------------:|"
+    printf '| JVM (%s) | %s | %.0f | %.0f | %.0f |\n' "$(java -version 2>&1 | head -n 1 | cut -d'"' -f2)" \
+        "$JVM_S" "$JVM_IDLE" "$JVM_LOADED" "$(du -m target/native/shoppingcart.jar | cut -f1)"
+    printf '| Nativo | %s | %.0f | %.0f | %.0f |\n' \
+        "$NATIVE_S" "$NATIVE_IDLE" "$NATIVE_LOADED" "$(du -m "$NATIVE" | cut -f1)"
+} >"$REPORT"
+echo "Relatório em $REPORT" >&2
@@ -0,0 +1,79 @@
+#!/usr/bin/env bash
+# Mede o tempo de inicialização da aplicação no modo padrão (jar) e no modo de inicialização
+# rápida (Spring AOT + AppCDS, perfil Maven fast-startup), com e sem o pulo do Liquibase.
+#
+# Cada modo sobe RUNS vezes contra o mesmo banco (por padrão o Postgres do docker-compose) e
+# registra o "process running for" do log do Spring Boot (JVM iniciada até o contexto pronto).
+# As medianas vão para target/startup/startup-times.csv (uma linha por execução do script),
+# para acompanhar regressões; com MAX_STARTUP_SECONDS, o script falha se o modo rápido passar
+# desse limite.
+#
+# Uso: scripts/measure-startup.sh [execuções]
+#   ex.: MAX_STARTUP_SECONDS=4 scripts/measure-startup.sh 5
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-8080}"
+DB_URL="${SPRING_DATASOURCE_URL:-jdbc:postgresql://localhost:54321/shoppingcart}"
+DB_USER="${SPRING_DATASOURCE_USERNAME:-postgres}"
+DB_PASSWORD="${SPRING_DATASOURCE_PASSWORD:-postgres}"
+DB_ARGS="--spring.datasource.url=$DB_URL --spring.datasource.username=$DB_USER --spring.datasource.password=$DB_PASSWORD --outbox.publisher=file"
+
+cd "$(dirname "$0")/.."
+./mvnw -q -DskipTests -Pfast-startup package -Dfast-startup.training.skip=false -Dfast-startup.training.args="$DB_ARGS"
+JAR="$(ls target/shoppingcart-*.jar | grep -v plain | head -n 1)"
+FAST_JAR="target/fast-startup/$(basename "$JAR")"
+mkdir -p target/startup
+
+# Sobe a aplicação, espera o log "Started" e imprime os segundos desde o início da JVM
+startup_seconds() {
+    local log="target/startup/run.log"
+    # shellcheck disable=SC2086
+    java "$@" --server.port="$PORT" $DB_ARGS >"$log" 2>&1 &
+    local pid=$!
+    trap 'kill $pid 2>/dev/null || true' EXIT
+
+    until grep -q "Started ShoppingCartApplication" "$log"; do
+        kill -0 "$pid" 2>/dev/null || { echo "A aplicação não subiu, veja $log" >&2; exit 1; }
+        sleep 0.2
+    done
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+
+    sed -n 's/.*process running for \([0-9.]*\)).*/\1/p' "$log" | head -n 1
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2 ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+measure() {
+    local name="$1"
+    shift
+    local times=()
+    for _ in $(seq "$RUNS"); do
+        times+=("$(startup_seconds "$@")")
+    done
+    local result
+    result="$(printf '%s\n' "${times[@]}" | median)"
+    printf '%-28s mediana %6ss  (%s)\n' "$name" "$result" "${times[*]}" >&2
+    echo "$result"
+}
+
+echo "== Inicialização ($RUNS execuções por modo) ==" >&2
+JAR_TIME="$(measure "jar" -jar "$JAR")"
+FAST_TIME="$(measure "aot + cds" -XX:SharedArchiveFile=target/fast-startup/application.jsa \
+    -Dspring.aot.enabled=true -jar "$FAST_JAR")"
+FAST_SKIP_TIME="$(measure "aot + cds + pulo liquibase" -XX:SharedArchiveFile=target/fast-startup/application.jsa \
+    -Dspring.aot.enabled=true -Dstartup.liquibase-skip-when-unchanged=true -jar "$FAST_JAR")"
+
+CSV="target/startup/startup-times.csv"
+[ -f "$CSV" ] || echo "date,commit,runs,jar_s,aot_cds_s,aot_cds_liquibase_skip_s" >"$CSV"
+echo "$(date -u +%Y-%m-%dT%H:%M:%SZ),$(git rev-parse --short HEAD 2>/dev/null || echo unknown),$RUNS,$JAR_TIME,$FAST_TIME,$FAST_SKIP_TIME" >>"$CSV"
+echo "Resultado adicionado a $CSV" >&2
+
+if [ -n "${MAX_STARTUP_SECONDS:-}" ] && awk -v t="$FAST_SKIP_TIME" -v max="$MAX_STARTUP_SECONDS" 'BEGIN { exit !(t > max) }'; then
+    echo "Regressão: inicialização rápida em ${FAST_SKIP_TIME}s, limite ${MAX_STARTUP_SECONDS}s" >&2
+    exit 1
+fi
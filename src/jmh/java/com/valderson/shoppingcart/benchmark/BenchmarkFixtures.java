@@ -0,0 +1,133 @@
+package com.valderson.shoppingcart.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.valderson.shoppingcart.config.JwtConfig;
+import com.valderson.shoppingcart.dto.response.CartItemResponse;
+import com.valderson.shoppingcart.dto.response.CartResponse;
+import com.valderson.shoppingcart.dto.response.OrderItemResponse;
+import com.valderson.shoppingcart.dto.response.OrderResponse;
+import com.valderson.shoppingcart.entity.CartItem;
+import com.valderson.shoppingcart.entity.Product;
+import com.valderson.shoppingcart.entity.ShoppingCart;
+import com.valderson.shoppingcart.entity.User;
+import com.valderson.shoppingcart.enums.OrderStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dados em memória para os benchmarks, sem banco nem contexto Spring.
+ */
+public final class BenchmarkFixtures {
+
+    public static final String SECRET = "benchmark-secret-key-0123456789-0123456789";
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 10, 30);
+
+    private BenchmarkFixtures() {
+    }
+
+    public static JwtConfig jwtConfig(final int verifiedCacheSize) {
+        JwtConfig config = new JwtConfig();
+        config.setSecret(SECRET);
+        config.setVerifiedCacheSize(verifiedCacheSize);
+        return config;
+    }
+
+    // Mesma configuração do ObjectMapper criado pelo Spring Boot (datas ISO, módulos registrados)
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    public static User user() {
+        return User.builder()
+                .id(1L)
+                .name("Benchmark")
+                .email("bench@example.com")
+                .createdAt(NOW)
+                .build();
+    }
+
+    public static ShoppingCart cart(final User user) {
+        return ShoppingCart.builder()
+                .id(1L)
+                .user(user)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    public static List<CartItem> cartItems(final ShoppingCart cart, final int size) {
+        List<CartItem> items = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            Product product = Product.builder()
+                    .id((long) i)
+                    .name("Produto " + i)
+                    .description("Descrição do produto " + i)
+                    .price(new BigDecimal("19.90").add(BigDecimal.valueOf(i, 2)))
+                    .createdAt(NOW)
+                    .build();
+            items.add(CartItem.builder()
+                    .id((long) i)
+                    .shoppingCart(cart)
+                    .product(product)
+                    .quantity(1 + i % 5)
+                    .addedAt(NOW)
+                    .build());
+        }
+        return items;
+    }
+
+    public static CartResponse cartResponse(final int size) {
+        List<CartItemResponse> items = new ArrayList<>(size);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 1; i <= size; i++) {
+            BigDecimal price = new BigDecimal("19.90").add(BigDecimal.valueOf(i, 2));
+            BigDecimal subtotal = price.multiply(BigDecimal.valueOf(1 + i % 5));
+            total = total.add(subtotal);
+            items.add(CartItemResponse.builder()
+                    .id((long) i)
+                    .productId((long) i)
+                    .productName("Produto " + i)
+                    .productPrice(price)
+                    .quantity(1 + i % 5)
+                    .subtotal(subtotal)
+                    .build());
+        }
+        return CartResponse.builder()
+                .id(1L)
+                .userId(1L)
+                .items(items)
+                .totalAmount(total)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    public static OrderResponse orderResponse(final int size) {
+        List<OrderItemResponse> items = new ArrayList<>(size);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 1; i <= size; i++) {
+            BigDecimal price = new BigDecimal("19.90").add(BigDecimal.valueOf(i, 2));
+            BigDecimal subtotal = price.multiply(BigDecimal.valueOf(1 + i % 5));
+            total = total.add(subtotal);
+            items.add(OrderItemResponse.builder()
+                    .id((long) i)
+                    .productId((long) i)
+                    .productName("Produto " + i)
+                    .productPrice(price)
+                    .quantity(1 + i % 5)
+                    .subtotal(subtotal)
+                    .build());
+        }
+        return OrderResponse.builder()
+                .id(1L)
+                .userId(1L)
+                .items(items)
+                .totalAmount(total)
+                .status(OrderStatus.PENDING)
+                .createdAt(NOW)
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.valderson.shoppingcart.dto;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.valderson.shoppingcart.benchmark.BenchmarkFixtures;
+import com.valderson.shoppingcart.dto.response.CartResponse;
+import com.valderson.shoppingcart.dto.response.OrderResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização Jackson das respostas de carrinho e pedido, com o ObjectMapper do Spring Boot.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+    @Param({"1", "10", "100", "500"})
+    public int items;
+
+    private ObjectWriter writer;
+    private CartResponse cart;
+    private OrderResponse order;
+
+    @Setup
+    public void setUp() {
+        writer = BenchmarkFixtures.objectMapper().writer();
+        cart = BenchmarkFixtures.cartResponse(items);
+        order = BenchmarkFixtures.orderResponse(items);
+    }
+
+    @Benchmark
+    public byte[] cartResponse() throws Exception {
+        return writer.writeValueAsBytes(cart);
+    }
+
+    @Benchmark
+    public byte[] orderResponse() throws Exception {
+        return writer.writeValueAsBytes(order);
+    }
+}
@@ -0,0 +1,82 @@
+package com.valderson.shoppingcart.security;
+
+import com.valderson.shoppingcart.benchmark.BenchmarkFixtures;
+import com.valderson.shoppingcart.config.AdminConfig;
+import com.valderson.shoppingcart.config.JwtConfig;
+import com.valderson.shoppingcart.config.TokenRevocationConfig;
+import com.valderson.shoppingcart.repository.RevokedTokenRepository;
+import com.valderson.shoppingcart.service.TokenRevocationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do filtro JWT por requisição. publicRoute é uma rota do catálogo com o cookie de
+ * autenticação (o filtro é pulado por shouldNotFilter); protectedRoute é o trabalho que
+ * toda requisição pública com cookie pagava antes da cadeia de filtros enxuta.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private Cookie authCookie;
+
+    @Setup
+    public void setUp() {
+        JwtConfig jwtConfig = BenchmarkFixtures.jwtConfig(10000);
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(jwtConfig, new SimpleMeterRegistry());
+        tokenProvider.init();
+
+        TokenRevocationService revocationService = new TokenRevocationService(
+                Mockito.mock(RevokedTokenRepository.class), new TokenRevocationConfig());
+        ReflectionTestUtils.invokeMethod(revocationService, "init");
+
+        filter = new JwtAuthenticationFilter(tokenProvider, jwtConfig, new AdminConfig(), revocationService);
+        authCookie = new Cookie(jwtConfig.getCookieName(), tokenProvider.generateToken(1L, "bench@example.com"));
+    }
+
+    @Benchmark
+    public FilterChain publicRoute() throws Exception {
+        return run("/api/products");
+    }
+
+    @Benchmark
+    public FilterChain protectedRoute() throws Exception {
+        return run("/api/cart/1");
+    }
+
+    private FilterChain run(final String path) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setCookies(authCookie);
+        MockFilterChain chain = new MockFilterChain();
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return chain;
+    }
+}
@@ -0,0 +1,59 @@
+package com.valderson.shoppingcart.security;
+
+import com.valderson.shoppingcart.benchmark.BenchmarkFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emissão e verificação de JWT. verifyCached mede o caminho comum (token já visto por esta
+ * instância); verifyUncached, o parse completo com HMAC que acontece na primeira requisição.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider cachingProvider;
+    private JwtTokenProvider parsingProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachingProvider = new JwtTokenProvider(BenchmarkFixtures.jwtConfig(10000), new SimpleMeterRegistry());
+        cachingProvider.init();
+        parsingProvider = new JwtTokenProvider(BenchmarkFixtures.jwtConfig(0), new SimpleMeterRegistry());
+        parsingProvider.init();
+
+        token = cachingProvider.generateToken(1L, "bench@example.com");
+        cachingProvider.verify(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachingProvider.generateToken(1L, "bench@example.com");
+    }
+
+    @Benchmark
+    public JwtPrincipal verifyCached() {
+        return cachingProvider.verify(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal verifyUncached() {
+        return parsingProvider.verify(token);
+    }
+}
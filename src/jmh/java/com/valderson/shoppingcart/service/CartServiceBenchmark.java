@@ -0,0 +1,49 @@
+package com.valderson.shoppingcart.service;
+
+import com.valderson.shoppingcart.benchmark.BenchmarkFixtures;
+import com.valderson.shoppingcart.dto.response.CartResponse;
+import com.valderson.shoppingcart.entity.CartItem;
+import com.valderson.shoppingcart.entity.ShoppingCart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Montagem da resposta do carrinho (mapeamento dos itens e soma dos subtotais).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CartServiceBenchmark {
+
+    @Param({"1", "10", "100", "500"})
+    public int items;
+
+    private ShoppingCart cart;
+    private List<CartItem> cartItems;
+
+    @Setup
+    public void setUp() {
+        cart = BenchmarkFixtures.cart(BenchmarkFixtures.user());
+        cartItems = BenchmarkFixtures.cartItems(cart, items);
+    }
+
+    @Benchmark
+    public CartResponse buildCartResponse() {
+        return CartService.buildCartResponse(cart, cartItems);
+    }
+}
@@ -0,0 +1,46 @@
+package com.valderson.shoppingcart.service;
+
+import com.valderson.shoppingcart.benchmark.BenchmarkFixtures;
+import com.valderson.shoppingcart.entity.CartItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cálculo do total do pedido a partir dos itens do carrinho, no checkout.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderServiceBenchmark {
+
+    @Param({"1", "10", "100", "500"})
+    public int items;
+
+    private List<CartItem> cartItems;
+
+    @Setup
+    public void setUp() {
+        cartItems = BenchmarkFixtures.cartItems(BenchmarkFixtures.cart(BenchmarkFixtures.user()), items);
+    }
+
+    @Benchmark
+    public BigDecimal calculateOrderTotal() {
+        return OrderService.calculateOrderTotal(cartItems);
+    }
+}
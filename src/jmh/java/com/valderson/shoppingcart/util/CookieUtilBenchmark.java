@@ -0,0 +1,52 @@
+package com.valderson.shoppingcart.util;
+
+import com.valderson.shoppingcart.benchmark.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Criação do cookie de autenticação no login e da sua remoção no logout, incluindo a
+ * serialização para o cabeçalho Set-Cookie.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CookieUtilBenchmark {
+
+    private CookieUtil cookieUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cookieUtil = new CookieUtil(BenchmarkFixtures.jwtConfig(0));
+        token = "eyJhbGciOiJIUzI1NiJ9." + "x".repeat(200) + ".signature";
+    }
+
+    @Benchmark
+    public String addAuthCookie() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        cookieUtil.addAuthCookie(response, token);
+        return response.getHeader("Set-Cookie");
+    }
+
+    @Benchmark
+    public String clearAuthCookie() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        cookieUtil.clearAuthCookie(response);
+        return response.getHeader("Set-Cookie");
+    }
+}
@@ -0,0 +1,43 @@
+package com.valderson.shoppingcart.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latências (em microssegundos) e erros de uma rota.
+ */
+final class EndpointStats {
+
+    private static final double MICROS_PER_MS = 1000.0;
+
+    private final Histogram latencies = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder();
+
+    void recordSuccess(final long micros) {
+        latencies.recordValue(micros);
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    LoadTestReport.EndpointReport toReport(final double measuredSeconds) {
+        long count = latencies.getTotalCount();
+        return new LoadTestReport.EndpointReport(
+                count,
+                errors.sum(),
+                count / measuredSeconds,
+                latencies.getMean() / MICROS_PER_MS,
+                percentileMs(50.0),
+                percentileMs(90.0),
+                percentileMs(99.0),
+                percentileMs(99.9),
+                latencies.getMaxValue() / MICROS_PER_MS);
+    }
+
+    private double percentileMs(final double percentile) {
+        return latencies.getValueAtPercentile(percentile) / MICROS_PER_MS;
+    }
+}
@@ -0,0 +1,193 @@
+package com.valderson.shoppingcart.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.valderson.shoppingcart.ShoppingCartApplication;
+import com.valderson.shoppingcart.entity.Product;
+import com.valderson.shoppingcart.entity.ProductInventory;
+import com.valderson.shoppingcart.repository.ProductInventoryRepository;
+import com.valderson.shoppingcart.repository.ProductRepository;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de carga HTTP. Sem baseUrl, sobe a aplicação em memória (perfis test e loadtest,
+ * banco H2) e cria o catálogo; com baseUrl, usa uma instância já em execução.
+ * Cada usuário virtual repete a jornada sem pausa (modelo fechado): as latências refletem
+ * a concorrência configurada, não uma taxa de chegada fixa.
+ *
+ * Uso: ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.args="concurrency=100 duration=60"
+ */
+public final class LoadTestDriver {
+
+    private static final int STOCK_PER_PRODUCT = 1_000_000;
+
+    private LoadTestDriver() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.baseUrl();
+        if (baseUrl == null) {
+            context = startApplication();
+            seedCatalog(context, options.products());
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        try {
+            LoadTestReport report = run(options, baseUrl, objectMapper);
+            print(report);
+            write(report, options.report(), objectMapper);
+            if (options.baseline() != null) {
+                compare(objectMapper.readValue(Path.of(options.baseline()).toFile(), LoadTestReport.class), report);
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication() {
+        SpringApplication application = new SpringApplication(ShoppingCartApplication.class);
+        application.setAdditionalProfiles("test", "loadtest");
+        return application.run("--server.port=0");
+    }
+
+    private static void seedCatalog(final ConfigurableApplicationContext context, final int products) {
+        ProductRepository productRepository = context.getBean(ProductRepository.class);
+        ProductInventoryRepository inventoryRepository = context.getBean(ProductInventoryRepository.class);
+        for (int i = 1; i <= products; i++) {
+            Product product = productRepository.save(Product.builder()
+                    .name("Produto " + i)
+                    .description("Produto de teste de carga " + i)
+                    .price(new BigDecimal("9.90").add(BigDecimal.valueOf(i)))
+                    .build());
+            inventoryRepository.save(ProductInventory.builder()
+                    .productId(product.getId())
+                    .stock(STOCK_PER_PRODUCT)
+                    .build());
+        }
+    }
+
+    private static LoadTestReport run(final LoadTestOptions options,
+                                      final String baseUrl,
+                                      final ObjectMapper objectMapper) throws InterruptedException {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        for (String endpoint : UserJourney.ENDPOINTS) {
+            stats.put(endpoint, new EndpointStats());
+        }
+
+        long startNanos = System.nanoTime();
+        long measureFrom = startNanos + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long deadline = measureFrom + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+        Instant startedAt = Instant.now();
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        UserJourney journey = new UserJourney(client, objectMapper, baseUrl, options.itemsPerOrder(), stats,
+                () -> System.nanoTime() - measureFrom >= 0);
+
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        AtomicLong sequence = new AtomicLong();
+        AtomicLong completed = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+
+        System.out.printf("Carga em %s: %d usuários, %ds de aquecimento, %ds medidos%n",
+                baseUrl, options.concurrency(), options.warmupSeconds(), options.durationSeconds());
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < options.concurrency(); user++) {
+                users.submit(() -> {
+                    while (System.nanoTime() - deadline < 0) {
+                        boolean measured = System.nanoTime() - measureFrom >= 0;
+                        try {
+                            journey.run("load-" + runId + "-" + sequence.incrementAndGet() + "@example.com");
+                            if (measured) {
+                                completed.incrementAndGet();
+                            }
+                        } catch (UserJourney.JourneyFailedException | IOException e) {
+                            if (measured) {
+                                failed.incrementAndGet();
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                });
+            }
+        }
+
+        double measuredSeconds = Math.max(1e-9, (System.nanoTime() - measureFrom) / 1e9);
+        Map<String, LoadTestReport.EndpointReport> endpoints = new LinkedHashMap<>();
+        stats.forEach((endpoint, endpointStats) -> endpoints.put(endpoint, endpointStats.toReport(measuredSeconds)));
+
+        return new LoadTestReport(options.label(), startedAt.toString(), baseUrl, System.getProperty("java.version"),
+                options.concurrency(), options.warmupSeconds(), options.durationSeconds(),
+                completed.get(), failed.get(), endpoints);
+    }
+
+    private static void print(final LoadTestReport report) {
+        System.out.printf("%nJornadas concluídas: %d, com erro: %d%n", report.journeysCompleted(), report.journeysFailed());
+        System.out.printf("%-36s %9s %7s %9s %9s %9s %9s %9s%n",
+                "Rota", "Req", "Erros", "Req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        report.endpoints().forEach((endpoint, stats) -> System.out.printf(
+                "%-36s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint, stats.requests(), stats.errors(), stats.throughputPerSecond(),
+                stats.p50Ms(), stats.p99Ms(), stats.p999Ms(), stats.maxMs()));
+    }
+
+    private static void write(final LoadTestReport report,
+                              final String path,
+                              final ObjectMapper objectMapper) throws IOException {
+        Path file = Path.of(path);
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        objectMapper.writeValue(file.toFile(), report);
+        System.out.printf("%nRelatório gravado em %s%n", file.toAbsolutePath());
+    }
+
+    private static void compare(final LoadTestReport baseline, final LoadTestReport current) {
+        System.out.printf("%nComparação com %s (%s):%n", baseline.label(), baseline.startedAt());
+        System.out.printf("%-36s %12s %12s %12s%n", "Rota", "Req/s", "p50", "p99");
+        current.endpoints().forEach((endpoint, stats) -> {
+            LoadTestReport.EndpointReport before = baseline.endpoints().get(endpoint);
+            if (before == null) {
+                return;
+            }
+            System.out.printf("%-36s %12s %12s %12s%n", endpoint,
+                    change(before.throughputPerSecond(), stats.throughputPerSecond()),
+                    change(before.p50Ms(), stats.p50Ms()),
+                    change(before.p99Ms(), stats.p99Ms()));
+        });
+    }
+
+    private static String change(final double before, final double after) {
+        if (before == 0) {
+            return "n/a";
+        }
+        return String.format("%+.1f%%", (after - before) / before * 100);
+    }
+}
@@ -0,0 +1,50 @@
+package com.valderson.shoppingcart.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parâmetros do teste de carga, no formato chave=valor na linha de comando.
+ *
+ * @param baseUrl        aplicação já em execução; vazio sobe a aplicação em memória (H2)
+ * @param concurrency    usuários virtuais executando jornadas em paralelo
+ * @param warmupSeconds  período inicial descartado das medições
+ * @param durationSeconds período medido, após o aquecimento
+ * @param itemsPerOrder  itens adicionados ao carrinho em cada jornada
+ * @param products       produtos criados no catálogo quando a aplicação é iniciada aqui
+ * @param report         arquivo JSON com o resultado
+ * @param baseline       relatório anterior para comparação (opcional)
+ * @param label          identificação do build no relatório
+ */
+public record LoadTestOptions(String baseUrl,
+                              int concurrency,
+                              int warmupSeconds,
+                              int durationSeconds,
+                              int itemsPerOrder,
+                              int products,
+                              String report,
+                              String baseline,
+                              String label) {
+
+    public static LoadTestOptions parse(final String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Argumento inválido (esperado chave=valor): " + arg);
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+
+        return new LoadTestOptions(
+                values.get("baseUrl"),
+                Integer.parseInt(values.getOrDefault("concurrency", "50")),
+                Integer.parseInt(values.getOrDefault("warmup", "10")),
+                Integer.parseInt(values.getOrDefault("duration", "60")),
+                Integer.parseInt(values.getOrDefault("items", "3")),
+                Integer.parseInt(values.getOrDefault("products", "100")),
+                values.getOrDefault("report", "target/loadtest/report.json"),
+                values.get("baseline"),
+                values.getOrDefault("label", "local"));
+    }
+}
@@ -0,0 +1,29 @@
+package com.valderson.shoppingcart.loadtest;
+
+import java.util.Map;
+
+/**
+ * Resultado gravado em JSON; um relatório anterior pode ser usado como linha de base.
+ */
+public record LoadTestReport(String label,
+                             String startedAt,
+                             String baseUrl,
+                             String javaVersion,
+                             int concurrency,
+                             int warmupSeconds,
+                             int durationSeconds,
+                             long journeysCompleted,
+                             long journeysFailed,
+                             Map<String, EndpointReport> endpoints) {
+
+    public record EndpointReport(long requests,
+                                 long errors,
+                                 double throughputPerSecond,
+                                 double meanMs,
+                                 double p50Ms,
+                                 double p90Ms,
+                                 double p99Ms,
+                                 double p999Ms,
+                                 double maxMs) {
+    }
+}
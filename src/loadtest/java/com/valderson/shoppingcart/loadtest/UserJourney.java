@@ -0,0 +1,142 @@
+package com.valderson.shoppingcart.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Jornada de um usuário: cadastro, catálogo, carrinho, checkout e histórico. Cada passo é
+ * medido com o nome da rota (sem ids); uma resposta de erro interrompe a jornada.
+ */
+final class UserJourney {
+
+    static final String REGISTER = "POST /api/auth/register";
+    static final String PRODUCTS = "GET /api/products";
+    static final String ADD_TO_CART = "POST /api/cart/{userId}/items";
+    static final String CHECKOUT = "POST /api/orders/{userId}";
+    static final String HISTORY = "GET /api/orders/{userId}/summary";
+    static final List<String> ENDPOINTS = List.of(REGISTER, PRODUCTS, ADD_TO_CART, CHECKOUT, HISTORY);
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String AUTH_COOKIE = "authToken=";
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final int itemsPerOrder;
+    private final Map<String, EndpointStats> stats;
+    private final BooleanSupplier recording;
+
+    UserJourney(final HttpClient client,
+                final ObjectMapper objectMapper,
+                final String baseUrl,
+                final int itemsPerOrder,
+                final Map<String, EndpointStats> stats,
+                final BooleanSupplier recording) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.itemsPerOrder = itemsPerOrder;
+        this.stats = stats;
+        this.recording = recording;
+    }
+
+    void run(final String email) throws IOException, InterruptedException, JourneyFailedException {
+        String body = objectMapper.writeValueAsString(Map.of(
+                "name", "Usuário de carga", "email", email, "password", "load-test-password"));
+        HttpResponse<String> registered = send(REGISTER, request("/api/auth/register", null)
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+        long userId = objectMapper.readTree(registered.body()).get("id").asLong();
+        String cookie = authCookie(registered);
+
+        HttpResponse<String> catalog = send(PRODUCTS, request("/api/products", cookie).GET());
+        List<Long> productIds = new ArrayList<>();
+        for (JsonNode product : objectMapper.readTree(catalog.body())) {
+            productIds.add(product.get("id").asLong());
+        }
+        if (productIds.isEmpty()) {
+            throw new JourneyFailedException("Catálogo vazio");
+        }
+
+        for (int i = 0; i < itemsPerOrder; i++) {
+            Long productId = productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()));
+            String item = objectMapper.writeValueAsString(Map.of("productId", productId, "quantity", 1));
+            send(ADD_TO_CART, request("/api/cart/" + userId + "/items", cookie)
+                    .POST(HttpRequest.BodyPublishers.ofString(item)));
+        }
+
+        send(CHECKOUT, request("/api/orders/" + userId, cookie).POST(HttpRequest.BodyPublishers.noBody()));
+        send(HISTORY, request("/api/orders/" + userId + "/summary", cookie).GET());
+    }
+
+    private HttpRequest.Builder request(final String path, final String cookie) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json");
+        if (cookie != null) {
+            builder.header("Cookie", cookie);
+        }
+        return builder;
+    }
+
+    private HttpResponse<String> send(final String endpoint, final HttpRequest.Builder request)
+            throws IOException, InterruptedException, JourneyFailedException {
+        EndpointStats endpointStats = stats.get(endpoint);
+        long started = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            record(endpointStats, -1);
+            throw new JourneyFailedException(endpoint + ": " + e.getMessage());
+        }
+        long micros = (System.nanoTime() - started) / 1000;
+
+        if (response.statusCode() >= 300) {
+            record(endpointStats, -1);
+            throw new JourneyFailedException(endpoint + " respondeu " + response.statusCode());
+        }
+        record(endpointStats, micros);
+        return response;
+    }
+
+    private void record(final EndpointStats endpointStats, final long micros) {
+        if (!recording.getAsBoolean()) {
+            return;
+        }
+        if (micros < 0) {
+            endpointStats.recordError();
+        } else {
+            endpointStats.recordSuccess(micros);
+        }
+    }
+
+    // O cookie é Secure; o CookieManager do HttpClient não o reenviaria em http://localhost
+    private static String authCookie(final HttpResponse<String> response) throws JourneyFailedException {
+        for (String header : response.headers().allValues("Set-Cookie")) {
+            if (header.startsWith(AUTH_COOKIE)) {
+                int end = header.indexOf(';');
+                return end < 0 ? header : header.substring(0, end);
+            }
+        }
+        throw new JourneyFailedException("Cadastro sem cookie de autenticação");
+    }
+
+    static final class JourneyFailedException extends Exception {
+
+        JourneyFailedException(final String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.valderson.shoppingcart;
 
+import com.valderson.shoppingcart.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public final class ShoppingCartApplication {
 
     private ShoppingCartApplication() {
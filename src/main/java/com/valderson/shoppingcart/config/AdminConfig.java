@@ -0,0 +1,20 @@
+package com.valderson.shoppingcart.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Component
+@ConfigurationProperties(prefix = "admin")
+@Data
+public class AdminConfig {
+    // Emails que recebem ROLE_ADMIN ao autenticar
+    private Set<String> emails = new HashSet<>(Set.of("admin@admin.com"));
+
+    public boolean isAdmin(final String email) {
+        return email != null && emails.contains(email);
+    }
+}
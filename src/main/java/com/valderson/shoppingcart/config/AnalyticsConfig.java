@@ -0,0 +1,14 @@
+package com.valderson.shoppingcart.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "analytics")
+@Data
+public class AnalyticsConfig {
+    private boolean rollupEnabled = true;
+    private long rollupIntervalMs = 5000;
+    private int rollupBatchSize = 500; // Eventos do outbox consumidos por transação
+}
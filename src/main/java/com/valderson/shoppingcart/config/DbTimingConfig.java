@@ -0,0 +1,16 @@
+package com.valderson.shoppingcart.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "db-timing")
+@Data
+public class DbTimingConfig {
+    private boolean enabled = true; // Mede o tempo de JDBC de cada requisição
+    private boolean serverTimingEnabled = false; // Cabeçalho Server-Timing; só fora de produção
+    private long slowQueryThresholdMs = 100; // Comandos acima disso vão para o log de consultas lentas
+    private long slowRequestThresholdMs = 500; // Tempo total de JDBC por requisição
+    private int maxSqlLength = 500; // SQL truncado no log
+}
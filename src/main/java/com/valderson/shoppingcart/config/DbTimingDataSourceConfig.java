@@ -0,0 +1,23 @@
+package com.valderson.shoppingcart.config;
+
+import com.valderson.shoppingcart.datasource.QueryTimingDataSourcePostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Envolve o DataSource da aplicação com o datasource-proxy para medir cada comando JDBC.
+ * Desligado com db-timing.enabled=false.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "db-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DbTimingDataSourceConfig {
+
+    // Estático: post-processors são criados antes dos demais beans da configuração
+    @Bean
+    public static QueryTimingDataSourcePostProcessor queryTimingDataSourcePostProcessor(
+            final ObjectProvider<DbTimingConfig> dbTimingConfig) {
+        return new QueryTimingDataSourcePostProcessor(dbTimingConfig);
+    }
+}
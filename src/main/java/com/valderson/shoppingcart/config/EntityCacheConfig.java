@@ -0,0 +1,28 @@
+package com.valderson.shoppingcart.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "entity-cache")
+@Data
+public class EntityCacheConfig {
+    private boolean enabled = true;
+    private boolean statisticsEnabled = true; // Contadores de acerto/erro do Hibernate por região
+    // Regiões do cache de segundo nível; uma região usada pelo Hibernate e ausente aqui impede a subida
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+        private long maxEntries;
+        private long timeToLiveSeconds; // 0 = sem expiração
+    }
+}
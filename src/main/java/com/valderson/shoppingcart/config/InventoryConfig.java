@@ -0,0 +1,18 @@
+package com.valderson.shoppingcart.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Component
+@ConfigurationProperties(prefix = "inventory")
+@Data
+public class InventoryConfig {
+    // Produtos de alta concorrência: reservas servidas por lotes em memória
+    private Set<Long> hotProductIds = new HashSet<>();
+    private int leaseSize = 50; // Unidades retiradas do banco por lote
+    private long reconcileIntervalMs = 5000;
+}
@@ -11,4 +11,6 @@ public class JwtConfig {
     private String secret = "mySecretKey123456789012345678901234567890"; // Mínimo 32 caracteres
     private int expiration = 86400; // 24 horas em segundos
     private String cookieName = "authToken";
+    private int verifiedCacheSize = 10000; // Tokens verificados mantidos em memória (0 desliga)
+    private int profileFreshSeconds = 300; // Até essa idade, o /me responde só com as claims do token
 }
\ No newline at end of file
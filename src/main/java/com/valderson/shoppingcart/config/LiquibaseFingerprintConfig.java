@@ -0,0 +1,20 @@
+package com.valderson.shoppingcart.config;
+
+import com.valderson.shoppingcart.datasource.LiquibaseFingerprintPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registrado sempre e decidido em tempo de execução por startup.liquibase-skip-when-unchanged:
+ * com Spring AOT, condições de beans ficam fixas no build.
+ */
+@Configuration
+public class LiquibaseFingerprintConfig {
+
+    @Bean
+    public static LiquibaseFingerprintPostProcessor liquibaseFingerprintPostProcessor(
+            final ObjectProvider<StartupConfig> startupConfig) {
+        return new LiquibaseFingerprintPostProcessor(startupConfig);
+    }
+}
@@ -0,0 +1,129 @@
+package com.valderson.shoppingcart.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hints de reflexão e recursos para a imagem nativa (perfil native). Roda no build AOT, ainda na
+ * JVM, por isso pode varrer os pacotes: entidades são lidas pelo Hibernate via reflexão, e os
+ * controllers devolvem ResponseEntity<?>, então o AOT não descobre sozinho os tipos serializados
+ * pelo Jackson. jjwt 0.11 e Liquibase carregam implementações pelo nome e não trazem metadados.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String BASE_PACKAGE = "com.valderson.shoppingcart";
+
+    // Tipos (des)serializados pelo Jackson: corpo das requisições/respostas e payload do outbox
+    private static final String[] JSON_PACKAGES = {
+        BASE_PACKAGE + ".dto",
+        BASE_PACKAGE + ".event",
+        BASE_PACKAGE + ".enums"
+    };
+
+    private static final String[] JJWT_TYPES = {
+        "io.jsonwebtoken.impl.DefaultClaims",
+        "io.jsonwebtoken.impl.DefaultHeader",
+        "io.jsonwebtoken.impl.DefaultJwsHeader",
+        "io.jsonwebtoken.impl.DefaultJwtBuilder",
+        "io.jsonwebtoken.impl.DefaultJwtParser",
+        "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+        "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+        "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+        "io.jsonwebtoken.impl.crypto.EllipticCurveProvider",
+        "io.jsonwebtoken.impl.crypto.MacProvider",
+        "io.jsonwebtoken.impl.crypto.RsaProvider",
+        "io.jsonwebtoken.jackson.io.JacksonDeserializer",
+        "io.jsonwebtoken.jackson.io.JacksonSerializer"
+    };
+
+    // Propriedades das tags do changelog são preenchidas por reflexão (ChangeParameterMetaData)
+    private static final String[] LIQUIBASE_TYPES = {
+        "liquibase.change.AddColumnConfig",
+        "liquibase.change.ColumnConfig",
+        "liquibase.change.ConstraintsConfig"
+    };
+
+    @Override
+    public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+        registerEntities(hints, classLoader);
+        registerJsonTypes(hints, classLoader);
+        registerJjwt(hints);
+        registerLiquibase(hints, classLoader);
+    }
+
+    private void registerEntities(final RuntimeHints hints, final ClassLoader classLoader) {
+        for (Class<?> type : typesIn(BASE_PACKAGE + ".entity", classLoader)) {
+            hints.reflection().registerType(type,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+    }
+
+    private void registerJsonTypes(final RuntimeHints hints, final ClassLoader classLoader) {
+        BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+        for (String basePackage : JSON_PACKAGES) {
+            bindings.registerReflectionHints(hints.reflection(),
+                    typesIn(basePackage, classLoader).toArray(Class<?>[]::new));
+        }
+    }
+
+    private void registerJjwt(final RuntimeHints hints) {
+        for (String type : JJWT_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+    }
+
+    private void registerLiquibase(final RuntimeHints hints, final ClassLoader classLoader) {
+        for (Class<?> type : typesIn("liquibase.change.core", classLoader)) {
+            hints.reflection().registerType(type,
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        for (String type : LIQUIBASE_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources()
+                .registerPattern("db/changelog/**")
+                .registerPattern("www.liquibase.org/xml/ns/dbchangelog/*.xsd")
+                .registerPattern("META-INF/services/liquibase.*")
+                .registerPattern("liquibase.build.properties");
+        hints.resources().registerResourceBundle("liquibase.i18n.liquibase-core");
+    }
+
+    /**
+     * Todas as classes do pacote (e subpacotes), inclusive as aninhadas, como os builders do Lombok.
+     */
+    private static List<Class<?>> typesIn(final String basePackage, final ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(final AnnotatedBeanDefinition beanDefinition) {
+                return true;
+            }
+        };
+        scanner.addIncludeFilter((reader, factory) -> true);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+
+        List<Class<?>> types = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+            types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+        }
+        return types;
+    }
+}
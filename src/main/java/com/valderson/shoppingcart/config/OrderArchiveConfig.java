@@ -0,0 +1,16 @@
+package com.valderson.shoppingcart.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "orders.archive")
+@Data
+public class OrderArchiveConfig {
+    private boolean enabled = true;
+    private int minAgeDays = 90; // Idade mínima de um pedido finalizado para ser arquivado
+    private int chunkSize = 500; // Pedidos movidos por transação
+    private long pauseMs = 100; // Pausa entre lotes para não disputar com o tráfego online
+    private String cron = "0 0 3 * * *";
+}
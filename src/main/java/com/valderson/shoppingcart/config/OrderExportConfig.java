@@ -0,0 +1,17 @@
+package com.valderson.shoppingcart.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "orders.export")
+@Data
+public class OrderExportConfig {
+    private int fetchSize = 1000; // Linhas trazidas do cursor por ida ao banco
+    private int parallelism = 1; // Faixas de datas lidas em paralelo (1 = leitura única)
+    private int maxDays = 366;
+    private int threads = 4; // Faixas lidas ao mesmo tempo somando todas as exportações (conexões usadas)
+    private int queueCapacity = 64; // Faixas aguardando thread; acima disso, a exportação é recusada
+    private long timeoutMs = 3600000; // Timeout assíncrono só da rota de exportação
+}
@@ -0,0 +1,36 @@
+package com.valderson.shoppingcart.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+@ConfigurationProperties(prefix = "outbox")
+@Data
+public class OutboxConfig {
+
+    private static final Set<String> PUBLISHERS = Set.of("in-memory", "file");
+
+    private boolean dispatcherEnabled = true;
+    private long pollIntervalMs = 1000;
+    private int batchSize = 100; // Eventos reivindicados por transação
+    private int maxBatchesPerRun = 10; // Limita o trabalho por ciclo quando há acúmulo
+    private int maxAttempts = 10; // Depois disso o evento fica FAILED
+    private long retryBaseDelayMs = 1000;
+    private long retryMaxDelayMs = 300000;
+    private int retentionHours = 72; // Eventos publicados mais antigos são removidos
+    private String publisher; // in-memory | file; sem padrão: em memória só nos perfis test e local
+    private String filePath = "order-events.ndjson";
+
+    // Sem publisher os eventos não teriam destino: a aplicação não sobe
+    @PostConstruct
+    void validate() {
+        if (publisher == null || !PUBLISHERS.contains(publisher)) {
+            throw new IllegalStateException("outbox.publisher inválido ou ausente: '" + publisher
+                    + "' (use in-memory ou file)");
+        }
+    }
+}
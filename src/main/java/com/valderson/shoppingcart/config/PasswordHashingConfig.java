@@ -0,0 +1,19 @@
+package com.valderson.shoppingcart.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "security.password")
+@Data
+public class PasswordHashingConfig {
+    private int strength = 10; // Custo do BCrypt; hashes mais fracos são refeitos no login
+    private int threads = 0; // Threads dedicadas ao hashing (0 = número de CPUs)
+    private int queueCapacity = 64; // Requisições aguardando hash; acima disso, rejeita na hora
+    private long timeoutMs = 5000;
+
+    public int resolvedThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
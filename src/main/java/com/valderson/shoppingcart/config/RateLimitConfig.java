@@ -0,0 +1,32 @@
+package com.valderson.shoppingcart.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+@Data
+public class RateLimitConfig {
+    private boolean enabled = true;
+    private long evictionIntervalMs = 60000; // Varredura de buckets ociosos
+    // Orçamento das rotas que não aparecem em routes
+    private Budget defaultBudget = new Budget(null, null, 300, 60);
+    // Primeira rota que casar com o caminho (padrão Ant) e o método define o orçamento
+    private List<Budget> routes = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Budget {
+        private String pattern;
+        private String method; // Opcional; vazio vale para todos os métodos
+        private int requestsPerMinute;
+        private int burst; // Requisições permitidas de uma vez após um período ocioso
+    }
+}
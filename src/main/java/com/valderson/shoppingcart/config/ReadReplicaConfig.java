@@ -0,0 +1,19 @@
+package com.valderson.shoppingcart.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+@Data
+public class ReadReplicaConfig {
+    private boolean enabled = false; // Sem réplica, todas as conexões vão para o primário
+    private String url;
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+    private long connectionTimeoutMs = 5000;
+    private long stickyWindowMs = 2000; // Deve cobrir o atraso de replicação observado
+    private long stickyEvictionIntervalMs = 60000;
+}
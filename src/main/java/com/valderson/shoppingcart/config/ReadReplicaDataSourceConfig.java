@@ -0,0 +1,68 @@
+package com.valderson.shoppingcart.config;
+
+import com.valderson.shoppingcart.datasource.ReadReplicaRoutingDataSource;
+import com.valderson.shoppingcart.datasource.ReplicaStickiness;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseDataSource;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Pools separados para primário e réplica, expostos à aplicação por um único DataSource
+ * roteado. Só é ativado com datasource.replica.enabled=true; caso contrário o DataSource
+ * padrão do Spring Boot é usado sem alterações.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @LiquibaseDataSource
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(final ReadReplicaConfig readReplicaConfig) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(readReplicaConfig.getUrl());
+        dataSource.setUsername(readReplicaConfig.getUsername());
+        dataSource.setPassword(readReplicaConfig.getPassword());
+        dataSource.setMaximumPoolSize(readReplicaConfig.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(readReplicaConfig.getConnectionTimeoutMs());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadReplicaRoutingDataSource routingDataSource(final HikariDataSource primaryDataSource,
+                                                          final HikariDataSource replicaDataSource,
+                                                          final ReplicaStickiness replicaStickiness) {
+        ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(replicaStickiness);
+        routing.setTargetDataSources(Map.of(
+                ReadReplicaRoutingDataSource.Route.PRIMARY, primaryDataSource,
+                ReadReplicaRoutingDataSource.Route.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(final ReadReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
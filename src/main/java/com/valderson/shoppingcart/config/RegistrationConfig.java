@@ -0,0 +1,13 @@
+package com.valderson.shoppingcart.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "auth.registration")
+@Data
+public class RegistrationConfig {
+    private long expectedUsers = 1000000; // Dimensiona o filtro de Bloom de emails
+    private double falsePositiveRate = 0.01; // Fração de cadastros novos que consultam o banco antes
+}
@@ -0,0 +1,67 @@
+package com.valderson.shoppingcart.config;
+
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Cache de segundo nível do Hibernate (JCache sobre Ehcache, em memória) para Product, User
+ * e as consultas do catálogo. As regiões e seus limites vêm de entity-cache.regions.
+ * O cache é local: alterações feitas pela JPA nesta instância invalidam as entradas na hora,
+ * e o TTL de cada região limita o tempo de desatualização nas demais instâncias.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "entity-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(final EntityCacheConfig entityCacheConfig) {
+        ConfigurationBuilder configuration = ConfigurationBuilder.newConfigurationBuilder();
+        for (Map.Entry<String, EntityCacheConfig.Region> entry : entityCacheConfig.getRegions().entrySet()) {
+            EntityCacheConfig.Region region = entry.getValue();
+            CacheConfigurationBuilder<Object, Object> cache = CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                    Object.class, Object.class, ResourcePoolsBuilder.heap(region.getMaxEntries()));
+            if (region.getTimeToLiveSeconds() > 0) {
+                cache = cache.withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(
+                        Duration.ofSeconds(region.getTimeToLiveSeconds())));
+            }
+            configuration = configuration.withCache(entry.getKey(), cache);
+        }
+
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+                EhcacheCachingProvider.class.getName());
+        // URI própria por contexto: contextos distintos (ex.: testes) não compartilham regiões
+        URI uri = URI.create("urn:shoppingcart:entity-cache:" + UUID.randomUUID());
+        return provider.getCacheManager(uri, configuration.build());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheHibernateProperties(final CacheManager entityCacheManager,
+                                                                        final EntityCacheConfig entityCacheConfig) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, entityCacheConfig.isStatisticsEnabled());
+            // As estatísticas ficam só para o endpoint; sem log de métricas a cada sessão
+            properties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+}
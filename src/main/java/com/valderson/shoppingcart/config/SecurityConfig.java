@@ -2,9 +2,18 @@
 package com.valderson.shoppingcart.config;
 
 import com.valderson.shoppingcart.security.JwtAuthenticationFilter;
+import com.valderson.shoppingcart.security.PublicPaths;
+import com.valderson.shoppingcart.security.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -24,30 +33,103 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final PasswordHashingConfig passwordHashingConfig;
+    private final Environment environment;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(passwordHashingConfig.getStrength());
     }
 
+    /**
+     * Endpoints do Actuator (management.endpoints.web.exposure: health e prometheus), sem rate limit
+     * para não atrapalhar o scrape. Health é público; o resto exige ADMIN quando o Actuator divide a
+     * porta com a API. Com management.server.port próprio (porta interna), o scrape dispensa o token.
+     */
     @Bean
+    @Order(0)
+    public SecurityFilterChain actuatorFilterChain(final HttpSecurity http) throws Exception {
+        boolean internalPort = ManagementPortType.get(environment) == ManagementPortType.DIFFERENT;
+        http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .anonymous(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(authz -> {
+                    authz.requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll();
+                    if (internalPort) {
+                        authz.anyRequest().permitAll();
+                    } else {
+                        authz.anyRequest().hasRole("ADMIN");
+                    }
+                })
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+
+    /**
+     * Cadeia enxuta para rotas públicas: sem filtro JWT, sem SecurityContext, sessão,
+     * request cache ou usuário anônimo. Mantém apenas CORS, cabeçalhos e rate limit (por IP).
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain publicFilterChain(final HttpSecurity http) throws Exception {
+        http
+                .securityMatcher(PublicPaths.ALL)
+                .csrf(AbstractHttpConfigurer::disable)
+                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                .securityContext(AbstractHttpConfigurer::disable)
+                .sessionManagement(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .anonymous(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(final HttpSecurity http) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(authz -> authz
-                        .requestMatchers("/api/auth/login", "/api/auth/register", "/api/auth/logout").permitAll()
-                        .requestMatchers("/api/products/**").permitAll()
-                        // Swagger endpoints
-                        .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**", 
-                                "/swagger-resources/**", "/webjars/**").permitAll()
+                        // Retorno de respostas assíncronas (exportação em streaming): a requisição original
+                        // já foi autorizada, e o filtro JWT não roda de novo nesse despacho
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers(PublicPaths.ALL).permitAll()
+                        .requestMatchers("/api/auth/logout").permitAll()
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
+    // Os filtros são beans (@Component) e o Spring Boot os registraria também no container,
+    // rodando em toda requisição antes da cadeia de segurança: só a cadeia deve usá-los
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration =
+                new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration() {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
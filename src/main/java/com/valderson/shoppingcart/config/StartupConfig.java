@@ -0,0 +1,13 @@
+package com.valderson.shoppingcart.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "startup")
+@Data
+public class StartupConfig {
+    // Pula o Liquibase quando o changelog é o mesmo da última execução neste banco
+    private boolean liquibaseSkipWhenUnchanged = false;
+}
@@ -0,0 +1,16 @@
+package com.valderson.shoppingcart.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "jwt.revocation")
+@Data
+public class TokenRevocationConfig {
+    private long expectedRevocations = 100000; // Dimensiona o filtro de Bloom
+    private double falsePositiveRate = 0.01; // Fração de tokens válidos que vão ao banco
+    private long refreshIntervalMs = 5000; // Sincronização com revogações de outras instâncias
+    private long refreshOverlapMs = 5000; // Margem para relógios e commits atrasados
+    private long rebuildIntervalMs = 3600000; // Reconstrução do filtro e limpeza de expirados
+}
@@ -0,0 +1,13 @@
+package com.valderson.shoppingcart.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "auth.user-cache")
+@Data
+public class UserCacheConfig {
+    private int maxSize = 10000; // Usuários mantidos em memória para o /me
+    private long ttlMs = 300000; // Limite de desatualização entre instâncias
+}
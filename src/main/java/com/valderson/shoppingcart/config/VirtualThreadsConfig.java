@@ -0,0 +1,14 @@
+package com.valderson.shoppingcart.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "virtual-threads")
+@Data
+public class VirtualThreadsConfig {
+    private boolean pinningMonitorEnabled = true; // Só roda com spring.threads.virtual.enabled=true
+    private long pinningThresholdMs = 20; // Bloqueios mais curtos que isso não são registrados
+    private int maxHotSpots = 50; // Locais distintos guardados nas estatísticas
+}
@@ -0,0 +1,29 @@
+package com.valderson.shoppingcart.controller;
+
+import com.valderson.shoppingcart.dto.response.DataSourceStatsResponse;
+import com.valderson.shoppingcart.service.DataSourceStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/datasource")
+@RequiredArgsConstructor
+public class AdminDataSourceController {
+
+    private final DataSourceStatsService dataSourceStatsService;
+
+    @GetMapping("/stats")
+    public ResponseEntity<?> getStats() {
+        try {
+            DataSourceStatsResponse stats = dataSourceStatsService.getStats();
+            return ResponseEntity.ok(stats);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Erro ao buscar estatísticas de conexões: " + e.getMessage());
+        }
+    }
+}
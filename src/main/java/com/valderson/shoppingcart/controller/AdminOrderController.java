@@ -0,0 +1,90 @@
+package com.valderson.shoppingcart.controller;
+
+import com.valderson.shoppingcart.config.OrderExportConfig;
+import com.valderson.shoppingcart.dto.request.BulkOrderStatusRequest;
+import com.valderson.shoppingcart.dto.response.BulkOrderStatusResponse;
+import com.valderson.shoppingcart.dto.response.OutboxStatsResponse;
+import com.valderson.shoppingcart.enums.ExportFormat;
+import com.valderson.shoppingcart.service.OrderExportService;
+import com.valderson.shoppingcart.service.OrderService;
+import com.valderson.shoppingcart.service.OutboxDispatcher;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+@RestController
+@RequestMapping("/api/admin/orders")
+@RequiredArgsConstructor
+public class AdminOrderController {
+
+    private final OrderService orderService;
+    private final OutboxDispatcher outboxDispatcher;
+    private final OrderExportService orderExportService;
+    private final OrderExportConfig orderExportConfig;
+
+    @PutMapping("/status")
+    public ResponseEntity<?> bulkUpdateStatus(@Valid @RequestBody BulkOrderStatusRequest request) {
+        try {
+            BulkOrderStatusResponse result = orderService.bulkUpdateStatus(request);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("Erro ao atualizar status dos pedidos: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/outbox/stats")
+    public ResponseEntity<?> getOutboxStats() {
+        try {
+            OutboxStatsResponse stats = outboxDispatcher.getStats();
+            return ResponseEntity.ok(stats);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Erro ao buscar estatísticas do outbox: " + e.getMessage());
+        }
+    }
+
+    // O tipo declarado precisa ser StreamingResponseBody: com ResponseEntity<?> o Spring procura
+    // um conversor de mensagens para o lambda e a exportação falha
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            HttpServletRequest request) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= orderExportConfig.getMaxDays()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                    .body(out -> out.write("Período inválido para exportação".getBytes(StandardCharsets.UTF_8)));
+        }
+
+        // Timeout do processamento assíncrono só desta rota: o corpo é escrito depois do retorno
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(orderExportConfig.getTimeoutMs());
+
+        // Erros durante o envio interrompem o download; o status já foi enviado
+        StreamingResponseBody body = out -> orderExportService.export(from, to, format, out);
+        String filename = "orders-" + from + "-" + to + "." + format.getExtension();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+}
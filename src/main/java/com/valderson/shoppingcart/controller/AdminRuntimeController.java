@@ -0,0 +1,43 @@
+package com.valderson.shoppingcart.controller;
+
+import com.valderson.shoppingcart.dto.response.EntityCacheStatsResponse;
+import com.valderson.shoppingcart.dto.response.VirtualThreadPinningStatsResponse;
+import com.valderson.shoppingcart.service.EntityCacheStatsService;
+import com.valderson.shoppingcart.service.VirtualThreadPinningMonitor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/runtime")
+@RequiredArgsConstructor
+public class AdminRuntimeController {
+
+    private final VirtualThreadPinningMonitor virtualThreadPinningMonitor;
+    private final EntityCacheStatsService entityCacheStatsService;
+
+    @GetMapping("/virtual-threads/pinning")
+    public ResponseEntity<?> getPinningStats() {
+        try {
+            VirtualThreadPinningStatsResponse stats = virtualThreadPinningMonitor.getStats();
+            return ResponseEntity.ok(stats);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Erro ao buscar estatísticas de threads virtuais: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/entity-cache/stats")
+    public ResponseEntity<?> getEntityCacheStats() {
+        try {
+            EntityCacheStatsResponse stats = entityCacheStatsService.getStats();
+            return ResponseEntity.ok(stats);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Erro ao buscar estatísticas do cache: " + e.getMessage());
+        }
+    }
+}
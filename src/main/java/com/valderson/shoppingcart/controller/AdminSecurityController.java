@@ -0,0 +1,43 @@
+package com.valderson.shoppingcart.controller;
+
+import com.valderson.shoppingcart.dto.response.PasswordHashingStatsResponse;
+import com.valderson.shoppingcart.dto.response.RateLimitStatsResponse;
+import com.valderson.shoppingcart.security.RateLimiter;
+import com.valderson.shoppingcart.service.PasswordHashingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/security")
+@RequiredArgsConstructor
+public class AdminSecurityController {
+
+    private final PasswordHashingService passwordHashingService;
+    private final RateLimiter rateLimiter;
+
+    @GetMapping("/password-hashing/stats")
+    public ResponseEntity<?> getPasswordHashingStats() {
+        try {
+            PasswordHashingStatsResponse stats = passwordHashingService.getStats();
+            return ResponseEntity.ok(stats);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Erro ao buscar estatísticas de hashing: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/rate-limit/stats")
+    public ResponseEntity<?> getRateLimitStats() {
+        try {
+            RateLimitStatsResponse stats = rateLimiter.getStats();
+            return ResponseEntity.ok(stats);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Erro ao buscar estatísticas de rate limit: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.valderson.shoppingcart.controller;
+
+import com.valderson.shoppingcart.dto.response.BasketStatsResponse;
+import com.valderson.shoppingcart.dto.response.DailyRevenueResponse;
+import com.valderson.shoppingcart.dto.response.TopProductResponse;
+import com.valderson.shoppingcart.service.SalesAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private static final int MAX_TOP_PRODUCTS = 100;
+
+    private final SalesAnalyticsService salesAnalyticsService;
+
+    @GetMapping("/revenue")
+    public ResponseEntity<?> getDailyRevenue(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            if (from.isAfter(to)) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body("Período inválido");
+            }
+
+            List<DailyRevenueResponse> revenue = salesAnalyticsService.getDailyRevenue(from, to);
+            return ResponseEntity.ok(revenue);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Erro ao buscar faturamento: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/top-products")
+    public ResponseEntity<?> getTopProducts(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            if (from.isAfter(to) || limit <= 0 || limit > MAX_TOP_PRODUCTS) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body("Período ou limite inválido");
+            }
+
+            List<TopProductResponse> products = salesAnalyticsService.getTopProducts(from, to, limit);
+            return ResponseEntity.ok(products);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Erro ao buscar produtos mais vendidos: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/basket")
+    public ResponseEntity<?> getBasketStats(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            if (from.isAfter(to)) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body("Período inválido");
+            }
+
+            BasketStatsResponse stats = salesAnalyticsService.getBasketStats(from, to);
+            return ResponseEntity.ok(stats);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Erro ao calcular cesta média: " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/backfill")
+    public ResponseEntity<?> backfill(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            if (from.isAfter(to)) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body("Período inválido");
+            }
+
+            int days = salesAnalyticsService.backfill(from, to);
+            return ResponseEntity.ok("Agregados recalculados para " + days + " dias");
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Erro ao recalcular agregados: " + e.getMessage());
+        }
+    }
+}
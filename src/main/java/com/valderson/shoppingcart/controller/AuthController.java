@@ -3,13 +3,19 @@ package com.valderson.shoppingcart.controller;
 import com.valderson.shoppingcart.dto.request.LoginRequest;
 import com.valderson.shoppingcart.dto.request.RegisterRequest;
 import com.valderson.shoppingcart.dto.response.UserResponse;
+import com.valderson.shoppingcart.exception.EmailAlreadyRegisteredException;
+import com.valderson.shoppingcart.exception.ServiceBusyException;
+import com.valderson.shoppingcart.security.JwtAuthenticationFilter;
+import com.valderson.shoppingcart.security.JwtPrincipal;
 import com.valderson.shoppingcart.security.JwtTokenProvider;
 import com.valderson.shoppingcart.service.AuthService;
+import com.valderson.shoppingcart.service.TokenRevocationService;
 import com.valderson.shoppingcart.util.CookieUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -26,6 +32,7 @@ public class AuthController {
     private final AuthService authService;
     private final JwtTokenProvider jwtTokenProvider;
     private final CookieUtil cookieUtil;
+    private final TokenRevocationService tokenRevocationService;
 
     @PostMapping("/register")
     public ResponseEntity<?> register(@Valid @RequestBody RegisterRequest request,
@@ -34,12 +41,17 @@ public class AuthController {
             UserResponse user = authService.register(request);
 
             // Gerar token JWT
-            String token = jwtTokenProvider.generateToken(user.getId(), user.getEmail());
+            String token = jwtTokenProvider.generateToken(user);
 
             // Adicionar cookie HTTP-only
             cookieUtil.addAuthCookie(response, token);
 
             return ResponseEntity.status(HttpStatus.CREATED).body(user);
+        } catch (EmailAlreadyRegisteredException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body("Erro no registro: " + e.getMessage());
+        } catch (ServiceBusyException e) {
+            return serviceBusy(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body("Erro no registro: " + e.getMessage());
@@ -53,12 +65,14 @@ public class AuthController {
             UserResponse user = authService.login(request);
 
             // Gerar token JWT
-            String token = jwtTokenProvider.generateToken(user.getId(), user.getEmail());
+            String token = jwtTokenProvider.generateToken(user);
 
             // Adicionar cookie HTTP-only
             cookieUtil.addAuthCookie(response, token);
 
             return ResponseEntity.ok(user);
+        } catch (ServiceBusyException e) {
+            return serviceBusy(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body("Erro no login: " + e.getMessage());
@@ -66,7 +80,13 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<String> logout(HttpServletResponse response) {
+    public ResponseEntity<String> logout(HttpServletRequest request, HttpServletResponse response) {
+        // Revogar o token atual: uma cópia do cookie deixa de valer no servidor
+        JwtPrincipal principal = (JwtPrincipal) request.getAttribute(JwtAuthenticationFilter.PRINCIPAL_ATTRIBUTE);
+        if (principal != null) {
+            tokenRevocationService.revoke(principal);
+        }
+
         // Limpar cookie
         cookieUtil.clearAuthCookie(response);
         return ResponseEntity.ok("Logout realizado com sucesso");
@@ -75,19 +95,24 @@ public class AuthController {
     @GetMapping("/me")
     public ResponseEntity<?> getCurrentUser(HttpServletRequest request) {
         try {
-            Long userId = (Long) request.getAttribute("userId");
-            String email = (String) request.getAttribute("userEmail");
+            JwtPrincipal principal = (JwtPrincipal) request.getAttribute(JwtAuthenticationFilter.PRINCIPAL_ATTRIBUTE);
 
-            if (userId == null) {
+            if (principal == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body("Token inválido ou usuário não autenticado");
             }
 
-            UserResponse user = authService.getUserById(userId);
+            UserResponse user = authService.getCurrentUser(principal);
             return ResponseEntity.ok(user);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("Erro ao buscar dados do usuário: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<String> serviceBusy(ServiceBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
+}
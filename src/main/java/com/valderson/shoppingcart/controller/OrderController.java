@@ -1,6 +1,7 @@
 package com.valderson.shoppingcart.controller;
 
 import com.valderson.shoppingcart.dto.response.OrderResponse;
+import com.valderson.shoppingcart.dto.response.OrderSummaryResponse;
 import com.valderson.shoppingcart.service.OrderService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -21,6 +23,8 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class OrderController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final OrderService orderService;
 
     @PostMapping("/{userId}")
@@ -55,6 +59,46 @@ public class OrderController {
         }
     }
 
+    @GetMapping("/{userId}/summary")
+    public ResponseEntity<?> getUserOrderSummaries(@PathVariable Long userId,
+                                                   @RequestParam(defaultValue = "0") int page,
+                                                   @RequestParam(defaultValue = "20") int size) {
+        try {
+            if (userId == null || userId <= 0) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body("ID do usuário inválido");
+            }
+
+            if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body("Paginação inválida");
+            }
+
+            List<OrderSummaryResponse> orders = orderService.getUserOrderSummaries(userId, page, size);
+            return ResponseEntity.ok(orders);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Erro ao buscar resumo dos pedidos: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/{userId}/{orderId}")
+    public ResponseEntity<?> getUserOrder(@PathVariable Long userId,
+                                          @PathVariable Long orderId) {
+        try {
+            if (userId == null || userId <= 0 || orderId == null || orderId <= 0) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body("ID do usuário ou pedido inválido");
+            }
+
+            OrderResponse order = orderService.getUserOrder(userId, orderId);
+            return ResponseEntity.ok(order);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body("Erro ao buscar pedido: " + e.getMessage());
+        }
+    }
+
     @PutMapping("/{userId}/{orderId}/cancel")
     public ResponseEntity<?> cancelOrder(@PathVariable Long userId,
                                                      @PathVariable Long orderId) {
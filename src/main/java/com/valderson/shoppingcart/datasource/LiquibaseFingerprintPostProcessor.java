@@ -0,0 +1,150 @@
+package com.valderson.shoppingcart.datasource;
+
+import com.valderson.shoppingcart.config.StartupConfig;
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pula o Liquibase na inicialização quando o changelog não mudou desde a última execução
+ * bem-sucedida no mesmo banco. A impressão digital (SHA-256 dos arquivos do diretório do
+ * changelog, contextos e labels) fica em schema_fingerprint: se bater, o lock, a leitura do
+ * changelog e a consulta à DATABASECHANGELOG viram um único SELECT. Sem a tabela, com outra
+ * impressão digital ou com erro ao lê-la, o Liquibase roda normalmente e grava a nova.
+ */
+@Slf4j
+public class LiquibaseFingerprintPostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+    private static final String SELECT_SQL = "SELECT fingerprint FROM schema_fingerprint WHERE id = 1";
+    private static final String UPDATE_SQL = "UPDATE schema_fingerprint SET fingerprint = ?, updated_at = ? WHERE id = 1";
+    private static final String INSERT_SQL = "INSERT INTO schema_fingerprint (id, fingerprint, updated_at) VALUES (1, ?, ?)";
+    private static final String CLASSPATH_PREFIX = "classpath:";
+
+    private final ObjectProvider<StartupConfig> startupConfig;
+
+    // Impressões digitais a gravar depois que o Liquibase do bean terminar
+    private final Map<String, String> pending = new ConcurrentHashMap<>();
+
+    private Environment environment;
+
+    public LiquibaseFingerprintPostProcessor(final ObjectProvider<StartupConfig> startupConfig) {
+        this.startupConfig = startupConfig;
+    }
+
+    @Override
+    public void setEnvironment(final Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+        if (!(bean instanceof SpringLiquibase liquibase)
+                || !startupConfig.getObject().isLiquibaseSkipWhenUnchanged()
+                || !environment.getProperty("spring.liquibase.enabled", Boolean.class, true)) {
+            return bean;
+        }
+
+        String fingerprint = fingerprint(liquibase);
+        if (fingerprint.equals(storedFingerprint(liquibase.getDataSource()))) {
+            log.info("Changelog do Liquibase inalterado ({}), migrações puladas", fingerprint.substring(0, 12));
+            liquibase.setShouldRun(false);
+        } else {
+            pending.put(beanName, fingerprint);
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        String fingerprint = pending.remove(beanName);
+        if (fingerprint != null && bean instanceof SpringLiquibase liquibase) {
+            store(liquibase.getDataSource(), fingerprint);
+        }
+        return bean;
+    }
+
+    private static String storedFingerprint(final DataSource dataSource) {
+        try {
+            List<String> rows = new JdbcTemplate(dataSource).queryForList(SELECT_SQL, String.class);
+            return rows.isEmpty() ? null : rows.get(0);
+        } catch (DataAccessException e) {
+            // Primeira execução (tabela ainda não existe) ou banco indisponível: o Liquibase decide
+            return null;
+        }
+    }
+
+    // Instâncias subindo juntas no banco novo podem inserir ao mesmo tempo: quem perde atualiza
+    private static void store(final DataSource dataSource, final String fingerprint) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (jdbcTemplate.update(UPDATE_SQL, fingerprint, now) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, fingerprint, now);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(UPDATE_SQL, fingerprint, now);
+        }
+    }
+
+    private static String fingerprint(final SpringLiquibase liquibase) {
+        String changeLog = liquibase.getChangeLog();
+        String location = changeLog.startsWith(CLASSPATH_PREFIX)
+                ? changeLog.substring(CLASSPATH_PREFIX.length())
+                : changeLog;
+        String directory = location.contains("/") ? location.substring(0, location.lastIndexOf('/')) : "";
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            Resource[] resources = new PathMatchingResourcePatternResolver()
+                    .getResources("classpath*:" + directory + "/**/*.*");
+            Arrays.sort(resources, Comparator.comparing(resource -> relativePath(resource, directory)));
+            for (Resource resource : resources) {
+                digest.update(relativePath(resource, directory).getBytes(StandardCharsets.UTF_8));
+                digest.update(resource.getContentAsByteArray());
+            }
+            digest.update(Objects.toString(liquibase.getContexts(), "").getBytes(StandardCharsets.UTF_8));
+            digest.update(Objects.toString(liquibase.getLabelFilter(), "").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler o changelog do Liquibase", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Caminho a partir do diretório do changelog, igual no jar e no diretório de classes
+    private static String relativePath(final Resource resource, final String directory) {
+        try {
+            String url = resource.getURL().toString();
+            int index = url.lastIndexOf(directory + "/");
+            return index >= 0 ? url.substring(index) : resource.getFilename();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
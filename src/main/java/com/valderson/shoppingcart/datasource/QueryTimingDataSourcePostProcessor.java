@@ -0,0 +1,51 @@
+package com.valderson.shoppingcart.datasource;
+
+import com.valderson.shoppingcart.config.DbTimingConfig;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+/**
+ * Passa as conexões do bean "dataSource" (o usado pela JPA e pelo JdbcTemplate) pelo
+ * datasource-proxy. O bean continua sendo do tipo original (proxy de classe que só desvia
+ * getConnection), então métricas e estatísticas do Hikari seguem enxergando o pool.
+ * Com réplica, "dataSource" é o proxy roteado; os pools por baixo não são envolvidos de novo.
+ */
+public class QueryTimingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final ObjectProvider<DbTimingConfig> dbTimingConfig;
+
+    public QueryTimingDataSourcePostProcessor(final ObjectProvider<DbTimingConfig> dbTimingConfig) {
+        this.dbTimingConfig = dbTimingConfig;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+
+        DataSource timed = ProxyDataSourceBuilder.create(DATA_SOURCE_BEAN, dataSource)
+                .listener(new QueryTimingListener(dbTimingConfig))
+                .build();
+
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            if (!"getConnection".equals(invocation.getMethod().getName())) {
+                return invocation.proceed();
+            }
+            Object[] args = invocation.getArguments();
+            return args.length == 0
+                    ? timed.getConnection()
+                    : timed.getConnection((String) args[0], (String) args[1]);
+        });
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+}
@@ -0,0 +1,100 @@
+package com.valderson.shoppingcart.datasource;
+
+import com.valderson.shoppingcart.config.DbTimingConfig;
+import com.valderson.shoppingcart.metrics.RequestDbTimings;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede cada execução JDBC (o ExecutionInfo do datasource-proxy só tem milissegundos) e
+ * acumula o tempo na requisição atual. Consultas lentas dentro de uma requisição são
+ * logadas no fim dela; fora de requisições (jobs) são logadas na hora.
+ */
+@Slf4j
+public class QueryTimingListener implements QueryExecutionListener {
+
+    private static final String STARTED_AT = "startedAtNanos";
+
+    private final ObjectProvider<DbTimingConfig> dbTimingConfig;
+
+    public QueryTimingListener(final ObjectProvider<DbTimingConfig> dbTimingConfig) {
+        this.dbTimingConfig = dbTimingConfig;
+    }
+
+    @Override
+    public void beforeQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+        Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        if (startedAt == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        long nanos = System.nanoTime() - startedAt;
+        DbTimingConfig config = dbTimingConfig.getObject();
+        String sql = truncate(queryInfoList.get(0).getQuery(), config.getMaxSqlLength());
+
+        RequestDbTimings timings = RequestDbTimings.current();
+        if (timings != null) {
+            timings.record(sql, nanos);
+        }
+
+        if (nanos < TimeUnit.MILLISECONDS.toNanos(config.getSlowQueryThresholdMs())) {
+            return;
+        }
+        String shape = parameterShape(execInfo, queryInfoList.get(0));
+        if (timings != null) {
+            timings.addSlowQuery(new RequestDbTimings.SlowQuery(sql, nanos, shape));
+        } else {
+            log.warn("Consulta lenta ({} ms) fora de requisição, parâmetros {}: {}",
+                    TimeUnit.NANOSECONDS.toMillis(nanos), shape, sql);
+        }
+    }
+
+    /**
+     * Tipos dos parâmetros na ordem dos placeholders, ex.: [Long, String, null]; lotes
+     * aparecem como "x N". Valores não são logados (podem conter dados pessoais).
+     */
+    private static String parameterShape(final ExecutionInfo execInfo, final QueryInfo queryInfo) {
+        List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+        if (parametersList.isEmpty()) {
+            return "[]";
+        }
+        StringJoiner shape = new StringJoiner(", ", "[", "]");
+        parametersList.get(0).stream()
+                .filter(operation -> !ParameterSetOperation.isRegisterOutParameterOperation(operation))
+                .sorted(Comparator.comparingInt(QueryTimingListener::parameterIndex))
+                .forEach(operation -> shape.add(typeOf(operation)));
+        return execInfo.isBatch() ? shape + " x " + execInfo.getBatchSize() : shape.toString();
+    }
+
+    private static int parameterIndex(final ParameterSetOperation operation) {
+        return operation.getArgs()[0] instanceof Integer index ? index : 0;
+    }
+
+    private static String typeOf(final ParameterSetOperation operation) {
+        Object[] args = operation.getArgs();
+        if (ParameterSetOperation.isSetNullParameterOperation(operation) || args.length < 2 || args[1] == null) {
+            return "null";
+        }
+        return args[1].getClass().getSimpleName();
+    }
+
+    private static String truncate(final String sql, final int maxLength) {
+        if (sql == null || sql.length() <= maxLength) {
+            return sql;
+        }
+        return sql.substring(0, maxLength) + "...";
+    }
+}
@@ -0,0 +1,68 @@
+package com.valderson.shoppingcart.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Envia transações somente leitura para a réplica e o restante para o primário.
+ * A decisão é tomada quando a conexão física é obtida, por isso este DataSource deve ficar
+ * atrás de um LazyConnectionDataSourceProxy: o gerenciador de transações pede a conexão
+ * antes de publicar o flag readOnly.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaStickiness replicaStickiness;
+
+    private final AtomicLong primaryRoutes = new AtomicLong();
+    private final AtomicLong replicaRoutes = new AtomicLong();
+    private final AtomicLong stickyRoutes = new AtomicLong();
+
+    public ReadReplicaRoutingDataSource(final ReplicaStickiness replicaStickiness) {
+        this.replicaStickiness = replicaStickiness;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryRoutes.incrementAndGet();
+            return Route.PRIMARY;
+        }
+
+        Long userId = currentUserId();
+        if (userId != null && replicaStickiness.isSticky(userId)) {
+            stickyRoutes.incrementAndGet();
+            return Route.PRIMARY;
+        }
+
+        replicaRoutes.incrementAndGet();
+        return Route.REPLICA;
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
+
+    public long getPrimaryRoutes() {
+        return primaryRoutes.get();
+    }
+
+    public long getReplicaRoutes() {
+        return replicaRoutes.get();
+    }
+
+    public long getStickyRoutes() {
+        return stickyRoutes.get();
+    }
+}
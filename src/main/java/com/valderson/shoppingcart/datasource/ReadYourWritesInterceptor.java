@@ -0,0 +1,44 @@
+package com.valderson.shoppingcart.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Abre a janela de leitura no primário para o usuário em qualquer requisição que possa
+ * alterar dados (métodos diferentes de GET, HEAD e OPTIONS). A marca é feita já no
+ * preHandle: o corpo da resposta pode chegar ao cliente antes do afterCompletion, e a
+ * leitura seguinte não pode cair na réplica nesse intervalo. O afterCompletion renova a
+ * janela para que ela conte a partir do commit, mesmo em requisições demoradas.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private final ReplicaStickiness replicaStickiness;
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+                             final Object handler) {
+        markIfWrite(request);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response,
+                                final Object handler, final Exception ex) {
+        markIfWrite(request);
+    }
+
+    private void markIfWrite(final HttpServletRequest request) {
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)) {
+            return;
+        }
+        if (request.getAttribute("userId") instanceof Long userId) {
+            replicaStickiness.markWrite(userId);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.valderson.shoppingcart.datasource;
+
+import com.valderson.shoppingcart.config.ReadReplicaConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Janela de leitura no primário após escritas do próprio usuário (read-your-writes).
+ * Enquanto a janela estiver aberta, as leituras somente leitura desse usuário não vão
+ * para a réplica, que pode ainda não ter recebido a alteração.
+ * As janelas ficam na memória desta instância: com várias instâncias, o balanceador
+ * precisa manter o usuário na mesma instância (afinidade de sessão) para a garantia valer.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReplicaStickiness {
+
+    private final ReadReplicaConfig readReplicaConfig;
+
+    private final Map<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public void markWrite(final Long userId) {
+        if (!readReplicaConfig.isEnabled() || userId == null) {
+            return;
+        }
+        long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(readReplicaConfig.getStickyWindowMs());
+        stickyUntil.put(userId, until);
+    }
+
+    public boolean isSticky(final Long userId) {
+        Long until = stickyUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() <= 0) {
+            stickyUntil.remove(userId, until);
+            return false;
+        }
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.sticky-eviction-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        stickyUntil.values().removeIf(until -> until - now <= 0);
+    }
+
+    public int size() {
+        return stickyUntil.size();
+    }
+}
@@ -0,0 +1,29 @@
+package com.valderson.shoppingcart.dto.request;
+
+import com.valderson.shoppingcart.enums.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkOrderStatusRequest {
+
+    @NotEmpty(message = "Lista de pedidos é obrigatória")
+    @Size(max = 10000, message = "Máximo de 10000 pedidos por requisição")
+    private List<Long> orderIds;
+
+    @NotNull(message = "Status de origem é obrigatório")
+    private OrderStatus fromStatus;
+
+    @NotNull(message = "Status de destino é obrigatório")
+    private OrderStatus toStatus;
+}
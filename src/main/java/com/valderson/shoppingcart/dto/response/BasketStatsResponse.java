@@ -0,0 +1,21 @@
+package com.valderson.shoppingcart.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BasketStatsResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private Long orderCount;
+    private BigDecimal averageItems;
+    private BigDecimal averageRevenue;
+}
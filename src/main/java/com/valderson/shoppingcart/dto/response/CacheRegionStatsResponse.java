@@ -0,0 +1,19 @@
+package com.valderson.shoppingcart.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheRegionStatsResponse {
+    private String region;
+    private Long maxEntries;
+    private Long hits;
+    private Long misses;
+    private Long puts;
+    private Double hitRatio;
+}
@@ -0,0 +1,19 @@
+package com.valderson.shoppingcart.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConnectionPoolStatsResponse {
+    private String name;
+    private Integer activeConnections;
+    private Integer idleConnections;
+    private Integer totalConnections;
+    private Integer threadsAwaitingConnection;
+    private Integer maximumPoolSize;
+}
@@ -0,0 +1,21 @@
+package com.valderson.shoppingcart.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DataSourceStatsResponse {
+    private Boolean replicaEnabled;
+    private List<ConnectionPoolStatsResponse> pools;
+    private Long primaryRoutes;
+    private Long replicaRoutes;
+    private Long stickyRoutes;
+    private Integer stickyUsers;
+}
@@ -0,0 +1,21 @@
+package com.valderson.shoppingcart.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EntityCacheStatsResponse {
+    private Boolean enabled;
+    private Boolean statisticsEnabled;
+    private List<CacheRegionStatsResponse> regions;
+    private Long queryCacheHits;
+    private Long queryCacheMisses;
+    private Double queryCacheHitRatio;
+}
@@ -0,0 +1,26 @@
+package com.valderson.shoppingcart.dto.response;
+
+import com.valderson.shoppingcart.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Resumo de pedido para listagens: não carrega os itens, apenas a contagem.
+ * A ordem dos campos é a usada pela projeção em OrderRepository.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderSummaryResponse {
+    private Long id;
+    private OrderStatus status;
+    private LocalDateTime createdAt;
+    private BigDecimal totalAmount;
+    private Long itemCount;
+}
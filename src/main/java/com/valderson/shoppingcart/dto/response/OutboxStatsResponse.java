@@ -0,0 +1,20 @@
+package com.valderson.shoppingcart.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxStatsResponse {
+    private Long pendingEvents;
+    private Long failedEvents;
+    private Long oldestPendingAgeMs;
+    private Long publishedTotal;
+    private Long retriesTotal;
+    private Long lastPublishLagMs;
+    private Long maxPublishLagMs;
+}
@@ -0,0 +1,23 @@
+package com.valderson.shoppingcart.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PasswordHashingStatsResponse {
+    private Integer strength;
+    private Integer threads;
+    private Integer queuedTasks;
+    private Long completedTotal;
+    private Long rejectedTotal;
+    private Long rehashedTotal;
+    private Double averageHashMs;
+    private Double maxHashMs;
+    private Double averageQueueWaitMs;
+    private Double maxQueueWaitMs;
+}
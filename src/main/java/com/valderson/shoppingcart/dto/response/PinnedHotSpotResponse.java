@@ -0,0 +1,17 @@
+package com.valderson.shoppingcart.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PinnedHotSpotResponse {
+    private String frame;
+    private Long count;
+    private Double totalMs;
+    private Double maxMs;
+}
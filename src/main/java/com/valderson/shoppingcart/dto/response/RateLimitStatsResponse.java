@@ -0,0 +1,16 @@
+package com.valderson.shoppingcart.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RateLimitStatsResponse {
+    private Integer activeBuckets;
+    private Long allowedTotal;
+    private Long rejectedTotal;
+}
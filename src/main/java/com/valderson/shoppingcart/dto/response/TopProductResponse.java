@@ -0,0 +1,23 @@
+package com.valderson.shoppingcart.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Produto mais vendido no período. A ordem dos campos é a usada pela projeção
+ * em DailyProductSalesRepository.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TopProductResponse {
+    private Long productId;
+    private String productName;
+    private Long quantity;
+    private BigDecimal revenue;
+}
@@ -0,0 +1,20 @@
+package com.valderson.shoppingcart.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VirtualThreadPinningStatsResponse {
+    private Boolean virtualThreadsEnabled;
+    private Boolean monitoring;
+    private Long thresholdMs;
+    private Long pinnedTotal;
+    private List<PinnedHotSpotResponse> hotSpots;
+}
@@ -0,0 +1,16 @@
+package com.valderson.shoppingcart.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyProductSalesId implements Serializable {
+    private LocalDate salesDate;
+    private Long productId;
+}
@@ -1,19 +1,27 @@
 package com.valderson.shoppingcart.entity;
 
+import com.valderson.shoppingcart.security.UserPrincipalCacheListener;
+import com.valderson.shoppingcart.util.EmailUtil;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -21,13 +29,22 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "users", schema = "public")
+@Table(name = "users", schema = "public", uniqueConstraints = {
+        @UniqueConstraint(name = User.EMAIL_NORMALIZED_CONSTRAINT, columnNames = "email_normalized"),
+        // Nome que o PostgreSQL deu à restrição da migração 001
+        @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email")
+})
+@EntityListeners(UserPrincipalCacheListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class User {
 
+    public static final String EMAIL_NORMALIZED_CONSTRAINT = "uq_users_email_normalized";
+    public static final String EMAIL_CONSTRAINT = "users_email_key";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -35,9 +52,12 @@ public class User {
     @Column(name = "name", nullable = false)
     private String name;
 
-    @Column(name = "email", nullable = false, unique = true)
+    @Column(name = "email", nullable = false)
     private String email;
 
+    @Column(name = "email_normalized", nullable = false)
+    private String emailNormalized;
+
     @Column(name = "password_hash", nullable = false)
     private String passwordHash;
 
@@ -55,4 +75,10 @@ public class User {
 
     @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
     private List<Order> orders;
-}
\ No newline at end of file
+
+    @PrePersist
+    @PreUpdate
+    void normalizeEmail() {
+        emailNormalized = EmailUtil.normalize(email);
+    }
+}
@@ -14,4 +14,14 @@ public enum OrderStatus {
     public String getValue() {
         return value;
     }
-}
\ No newline at end of file
+
+    // Status finais não mudam mais e podem ir para o arquivo
+    public boolean isTerminal() {
+        return this != PENDING;
+    }
+
+    // Apenas pedidos pendentes podem mudar de status
+    public boolean canTransitionTo(final OrderStatus target) {
+        return this == PENDING && target != PENDING;
+    }
+}
@@ -0,0 +1,38 @@
+package com.valderson.shoppingcart.event;
+
+import com.valderson.shoppingcart.config.OutboxConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Publisher de arquivo: um evento por linha (NDJSON), útil para integrações locais
+@Component
+@ConditionalOnProperty(name = "outbox.publisher", havingValue = "file")
+public class FileOrderEventPublisher implements OrderEventPublisher {
+
+    private final Path file;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public FileOrderEventPublisher(final OutboxConfig outboxConfig) {
+        this.file = Path.of(outboxConfig.getFilePath());
+    }
+
+    @Override
+    public void publish(final OutboxMessage message) throws IOException {
+        String line = message.getPayload().replace('\n', ' ') + System.lineSeparator();
+
+        lock.lock();
+        try {
+            Files.writeString(file, line, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
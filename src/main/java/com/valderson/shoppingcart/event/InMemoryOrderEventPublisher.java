@@ -0,0 +1,35 @@
+package com.valderson.shoppingcart.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Publisher em processo: guarda os últimos eventos para testes e ambiente local
+@Component
+@ConditionalOnProperty(name = "outbox.publisher", havingValue = "in-memory")
+@Slf4j
+public class InMemoryOrderEventPublisher implements OrderEventPublisher {
+
+    private static final int CAPACITY = 1000;
+
+    private final ConcurrentLinkedDeque<OutboxMessage> messages = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    @Override
+    public void publish(final OutboxMessage message) {
+        messages.addLast(message);
+        if (size.incrementAndGet() > CAPACITY && messages.pollFirst() != null) {
+            size.decrementAndGet();
+        }
+        log.debug("Evento {} do pedido {} publicado", message.getEventType(), message.getAggregateId());
+    }
+
+    public List<OutboxMessage> getPublishedMessages() {
+        return new ArrayList<>(messages);
+    }
+}
@@ -0,0 +1,21 @@
+package com.valderson.shoppingcart.event;
+
+import com.valderson.shoppingcart.dto.response.OrderResponse;
+import com.valderson.shoppingcart.enums.OrderEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Conteúdo serializado no payload do outbox
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderEvent {
+    private OrderEventType eventType;
+    private LocalDateTime occurredAt;
+    private OrderResponse order;
+}
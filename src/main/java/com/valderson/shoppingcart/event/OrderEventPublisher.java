@@ -0,0 +1,10 @@
+package com.valderson.shoppingcart.event;
+
+/**
+ * Transporte dos eventos de pedido para sistemas externos (fulfillment, email).
+ * Uma exceção indica falha de entrega: o evento volta para a fila com backoff.
+ */
+public interface OrderEventPublisher {
+
+    void publish(OutboxMessage message) throws Exception;
+}
@@ -0,0 +1,22 @@
+package com.valderson.shoppingcart.event;
+
+import com.valderson.shoppingcart.enums.OrderEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Evento entregue aos publishers; payload é o JSON gravado no outbox
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxMessage {
+    private Long id;
+    private OrderEventType eventType;
+    private Long aggregateId;
+    private String payload;
+    private LocalDateTime createdAt;
+}
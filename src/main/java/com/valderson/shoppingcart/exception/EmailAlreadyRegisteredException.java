@@ -0,0 +1,8 @@
+package com.valderson.shoppingcart.exception;
+
+public class EmailAlreadyRegisteredException extends RuntimeException {
+
+    public EmailAlreadyRegisteredException() {
+        super("Email já está em uso");
+    }
+}
@@ -0,0 +1,15 @@
+package com.valderson.shoppingcart.exception;
+
+/**
+ * Recurso limitado do servidor saturado; o cliente deve tentar novamente mais tarde.
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    public ServiceBusyException(final String message) {
+        super(message);
+    }
+
+    public ServiceBusyException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,39 @@
+package com.valderson.shoppingcart.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marca o início da serialização: comandos a partir daqui são lazy loading da resposta, e
+ * o tempo "app" do Server-Timing (ver ServerTimingResponseWrapper) termina aqui.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "db-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DbTimingResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(final MethodParameter returnType,
+                            final Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(final Object body,
+                                  final MethodParameter returnType,
+                                  final MediaType selectedContentType,
+                                  final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  final ServerHttpRequest request,
+                                  final ServerHttpResponse response) {
+        RequestDbTimings timings = RequestDbTimings.current();
+        if (timings != null) {
+            timings.markRender();
+        }
+        return body;
+    }
+}
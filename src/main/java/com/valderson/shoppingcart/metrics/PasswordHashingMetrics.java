@@ -0,0 +1,36 @@
+package com.valderson.shoppingcart.metrics;
+
+import com.valderson.shoppingcart.service.PasswordHashingService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Saturação do pool de BCrypt: com a fila cheia o cadastro e o login respondem 503,
+ * então fila e rejeições ficam ao lado das métricas do pool de conexões.
+ */
+@Component
+@RequiredArgsConstructor
+public class PasswordHashingMetrics implements MeterBinder {
+
+    private final PasswordHashingService passwordHashingService;
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("password.hashing.threads", passwordHashingService,
+                        service -> service.getStats().getThreads())
+                .description("Threads do pool de BCrypt")
+                .register(registry);
+        Gauge.builder("password.hashing.queued", passwordHashingService,
+                        service -> service.getStats().getQueuedTasks())
+                .description("Hashes aguardando uma thread do pool")
+                .register(registry);
+        FunctionCounter.builder("password.hashing.rejected", passwordHashingService,
+                        service -> service.getStats().getRejectedTotal())
+                .description("Hashes recusados por fila cheia ou tempo de espera esgotado")
+                .register(registry);
+    }
+}
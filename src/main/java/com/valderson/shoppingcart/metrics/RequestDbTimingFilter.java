@@ -0,0 +1,112 @@
+package com.valderson.shoppingcart.metrics;
+
+import com.valderson.shoppingcart.config.DbTimingConfig;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Abre a contagem de JDBC da requisição (datasource-proxy) e, no fim, registra por rota o
+ * tempo e o número de comandos e loga consultas lentas e requisições que passaram do limite
+ * de tempo no banco, com o método do controller que as originou. Com
+ * db-timing.server-timing-enabled, a resposta leva o cabeçalho Server-Timing.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 11)
+@ConditionalOnProperty(prefix = "db-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class RequestDbTimingFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final DbTimingConfig dbTimingConfig;
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+                                    final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        RequestDbTimings timings = RequestDbTimings.begin();
+        try {
+            if (dbTimingConfig.isServerTimingEnabled()) {
+                ServerTimingResponseWrapper timedResponse = new ServerTimingResponseWrapper(response, timings);
+                filterChain.doFilter(request, timedResponse);
+                timedResponse.writeServerTiming();
+            } else {
+                filterChain.doFilter(request, response);
+            }
+        } finally {
+            RequestDbTimings.end();
+            String route = route(request);
+            Timer.builder("http.server.requests.db")
+                    .description("Tempo de JDBC por requisição")
+                    .tag("method", request.getMethod())
+                    .tag("uri", route)
+                    .register(meterRegistry)
+                    .record(timings.getJdbcNanos(), TimeUnit.NANOSECONDS);
+            DistributionSummary.builder("http.server.requests.statements")
+                    .description("Comandos SQL executados por requisição")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", route)
+                    .register(meterRegistry)
+                    .record(timings.getStatements());
+            logSlow(request.getMethod() + " " + route + " (" + handler(request) + ")", timings);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    // Padrão do mapeamento (ex.: /api/cart/{userId}/items), nunca a URI com ids
+    private static String route(final HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_ROUTE;
+    }
+
+    private void logSlow(final String origin, final RequestDbTimings timings) {
+        for (RequestDbTimings.SlowQuery query : timings.getSlowQueries()) {
+            log.warn("Consulta lenta ({} ms) em {}, parâmetros {}: {}",
+                    RequestDbTimings.millis(query.nanos()), origin, query.parameterShape(), query.sql());
+        }
+        if (timings.getSlowQueriesDropped() > 0) {
+            log.warn("Mais {} consultas lentas em {} omitidas", timings.getSlowQueriesDropped(), origin);
+        }
+
+        if (timings.getJdbcNanos() < TimeUnit.MILLISECONDS.toNanos(dbTimingConfig.getSlowRequestThresholdMs())) {
+            return;
+        }
+        log.warn("Requisição lenta no banco: {} executou {} comandos em {} ms ({} comandos e {} ms durante a "
+                        + "serialização); mais lento {} ms: {}",
+                origin, timings.getStatements(), RequestDbTimings.millis(timings.getJdbcNanos()),
+                timings.getRenderStatements(), RequestDbTimings.millis(timings.getRenderJdbcNanos()),
+                RequestDbTimings.millis(timings.getSlowestNanos()), timings.getSlowestSql());
+    }
+
+    private static String handler(final HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+        return "sem controller";
+    }
+}
@@ -0,0 +1,144 @@
+package com.valderson.shoppingcart.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tempo de JDBC acumulado pela requisição na thread atual. Comandos executados depois que
+ * o controller devolveu a resposta (lazy loading durante a serialização, com open-in-view)
+ * são contados à parte, para separar consulta, lazy loading e serialização.
+ */
+public final class RequestDbTimings {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final ThreadLocal<RequestDbTimings> CURRENT = new ThreadLocal<>();
+    private static final int MAX_SLOW_QUERIES = 10;
+
+    private final long startedAt = System.nanoTime();
+    private long renderStartedAt;
+
+    private int statements;
+    private long jdbcNanos;
+    private int renderStatements;
+    private long renderJdbcNanos;
+    private long slowestNanos;
+    private String slowestSql;
+
+    private final List<SlowQuery> slowQueries = new ArrayList<>(0);
+    private int slowQueriesDropped;
+
+    private RequestDbTimings() {
+    }
+
+    public static RequestDbTimings begin() {
+        RequestDbTimings timings = new RequestDbTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * Timings da requisição em andamento, ou null fora de uma requisição (jobs, startup).
+     */
+    public static RequestDbTimings current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    // Milissegundos com uma casa decimal, para logs e Server-Timing
+    public static double millis(final long nanos) {
+        return Math.round(nanos / 100_000.0) / 10.0;
+    }
+
+    public void record(final String sql, final long nanos) {
+        statements++;
+        jdbcNanos += nanos;
+        if (isRendering()) {
+            renderStatements++;
+            renderJdbcNanos += nanos;
+        }
+        if (nanos > slowestNanos) {
+            slowestNanos = nanos;
+            slowestSql = sql;
+        }
+    }
+
+    /**
+     * Valor do Server-Timing: tempo de JDBC e número de comandos até agora, comando mais lento
+     * e tempo da requisição até a serialização (ou até agora, em respostas sem corpo serializado).
+     */
+    public String serverTiming() {
+        long appEndedAt = isRendering() ? renderStartedAt : System.nanoTime();
+        return "db;dur=" + millis(jdbcNanos) + ";desc=\"" + statements + " comandos\""
+                + ", db-slowest;dur=" + millis(slowestNanos)
+                + ", app;dur=" + millis(appEndedAt - startedAt);
+    }
+
+    public void addSlowQuery(final SlowQuery slowQuery) {
+        if (slowQueries.size() < MAX_SLOW_QUERIES) {
+            slowQueries.add(slowQuery);
+        } else {
+            slowQueriesDropped++;
+        }
+    }
+
+    public void markRender() {
+        if (!isRendering()) {
+            renderStartedAt = System.nanoTime();
+        }
+    }
+
+    public boolean isRendering() {
+        return renderStartedAt != 0;
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    public long getRenderStartedAt() {
+        return renderStartedAt;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public int getRenderStatements() {
+        return renderStatements;
+    }
+
+    public long getRenderJdbcNanos() {
+        return renderJdbcNanos;
+    }
+
+    public long getSlowestNanos() {
+        return slowestNanos;
+    }
+
+    public String getSlowestSql() {
+        return slowestSql;
+    }
+
+    public List<SlowQuery> getSlowQueries() {
+        return slowQueries;
+    }
+
+    public int getSlowQueriesDropped() {
+        return slowQueriesDropped;
+    }
+
+    /**
+     * Consulta acima do limite, guardada para o log no fim da requisição (quando o método
+     * do controller já é conhecido). Os parâmetros vêm só como tipos, nunca valores.
+     */
+    public record SlowQuery(String sql, long nanos, String parameterShape) {
+    }
+}
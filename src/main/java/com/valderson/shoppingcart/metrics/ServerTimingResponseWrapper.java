@@ -0,0 +1,68 @@
+package com.valderson.shoppingcart.metrics;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Adiciona o Server-Timing no último momento em que os cabeçalhos ainda podem mudar: antes
+ * do primeiro byte do corpo (inclusive StreamingResponseBody, já em outra thread), antes de
+ * um flush ou erro e, em respostas sem corpo, quando a cadeia de filtros termina.
+ */
+final class ServerTimingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final RequestDbTimings timings;
+    private boolean written;
+
+    ServerTimingResponseWrapper(final HttpServletResponse response, final RequestDbTimings timings) {
+        super(response);
+        this.timings = timings;
+    }
+
+    void writeServerTiming() {
+        if (written || isCommitted()) {
+            return;
+        }
+        written = true;
+        setHeader(RequestDbTimings.SERVER_TIMING_HEADER, timings.serverTiming());
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        writeServerTiming();
+        return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        writeServerTiming();
+        return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        writeServerTiming();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(final int sc) throws IOException {
+        writeServerTiming();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendError(final int sc, final String msg) throws IOException {
+        writeServerTiming();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendRedirect(final String location) throws IOException {
+        writeServerTiming();
+        super.sendRedirect(location);
+    }
+}
@@ -0,0 +1,60 @@
+package com.valderson.shoppingcart.repository;
+
+import com.valderson.shoppingcart.entity.ArchivedOrder;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Long>, ArchivedOrderRepositoryCustom {
+
+    long countByUserId(Long userId);
+
+    @Query("SELECT DISTINCT o FROM ArchivedOrder o LEFT JOIN FETCH o.orderItems "
+            + "WHERE o.id = :orderId AND o.userId = :userId")
+    Optional<ArchivedOrder> findByIdAndUserIdWithItems(@Param("orderId") Long orderId, @Param("userId") Long userId);
+
+    @Query("SELECT DISTINCT o FROM ArchivedOrder o LEFT JOIN FETCH o.orderItems WHERE o.id IN :orderIds")
+    List<ArchivedOrder> findAllByIdWithItems(@Param("orderIds") Collection<Long> orderIds);
+
+    @Query("SELECT o.id FROM ArchivedOrder o "
+            + "WHERE NOT EXISTS (SELECT 1 FROM OrderView v WHERE v.orderId = o.id) ORDER BY o.id")
+    List<Long> findIdsWithoutView(Pageable pageable);
+
+    // Movimentação para o arquivo: copia pedidos e itens e depois remove das tabelas quentes.
+    // Cada comando declara a tabela que altera; sem isso o Hibernate esvazia todo o cache de segundo nível
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "orders_archive"))
+    @Query(value = "INSERT INTO orders_archive (id, user_id, total_amount, status, created_at, updated_at, archived_at) "
+            + "SELECT id, user_id, total_amount, status, created_at, updated_at, CURRENT_TIMESTAMP "
+            + "FROM orders WHERE id IN (:orderIds)", nativeQuery = true)
+    int copyOrders(@Param("orderIds") List<Long> orderIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "order_items_archive"))
+    @Query(value = "INSERT INTO order_items_archive "
+            + "(id, order_id, product_id, product_name, product_price, quantity, subtotal) "
+            + "SELECT id, order_id, product_id, product_name, product_price, quantity, subtotal "
+            + "FROM order_items WHERE order_id IN (:orderIds)", nativeQuery = true)
+    int copyOrderItems(@Param("orderIds") List<Long> orderIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "order_items"))
+    @Query(value = "DELETE FROM order_items WHERE order_id IN (:orderIds)", nativeQuery = true)
+    int deleteHotOrderItems(@Param("orderIds") List<Long> orderIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "orders"))
+    @Query(value = "DELETE FROM orders WHERE id IN (:orderIds)", nativeQuery = true)
+    int deleteHotOrders(@Param("orderIds") List<Long> orderIds);
+}
@@ -0,0 +1,11 @@
+package com.valderson.shoppingcart.repository;
+
+import com.valderson.shoppingcart.dto.response.OrderSummaryResponse;
+
+import java.util.List;
+
+public interface ArchivedOrderRepositoryCustom {
+
+    // Paginação por deslocamento arbitrário: a janela do arquivo começa onde a quente termina
+    List<OrderSummaryResponse> findSummariesByUserId(Long userId, long offset, int limit);
+}
@@ -0,0 +1,27 @@
+package com.valderson.shoppingcart.repository;
+
+import com.valderson.shoppingcart.dto.response.OrderSummaryResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+
+public class ArchivedOrderRepositoryImpl implements ArchivedOrderRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<OrderSummaryResponse> findSummariesByUserId(final Long userId, final long offset, final int limit) {
+        return entityManager.createQuery("SELECT new com.valderson.shoppingcart.dto.response.OrderSummaryResponse("
+                        + "o.id, o.status, o.createdAt, o.totalAmount, COUNT(oi.id)) "
+                        + "FROM ArchivedOrder o LEFT JOIN o.orderItems oi "
+                        + "WHERE o.userId = :userId "
+                        + "GROUP BY o.id, o.status, o.createdAt, o.totalAmount "
+                        + "ORDER BY o.createdAt DESC, o.id DESC", OrderSummaryResponse.class)
+                .setParameter("userId", userId)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,69 @@
+package com.valderson.shoppingcart.repository;
+
+import com.valderson.shoppingcart.dto.response.TopProductResponse;
+import com.valderson.shoppingcart.entity.DailyProductSales;
+import com.valderson.shoppingcart.entity.DailyProductSalesId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DailyProductSalesRepository extends JpaRepository<DailyProductSales, DailyProductSalesId> {
+
+    @Query("SELECT new com.valderson.shoppingcart.dto.response.TopProductResponse("
+            + "p.productId, MAX(p.productName), SUM(p.quantity), SUM(p.revenue)) "
+            + "FROM DailyProductSales p WHERE p.salesDate BETWEEN :from AND :to "
+            + "GROUP BY p.productId HAVING SUM(p.quantity) > 0 ORDER BY SUM(p.quantity) DESC, p.productId")
+    List<TopProductResponse> findTopProducts(@Param("from") LocalDate from,
+                                             @Param("to") LocalDate to,
+                                             Pageable pageable);
+
+    // Incremento atômico: instâncias aplicando lotes ao mesmo dia/produto não perdem somas
+    @Modifying
+    @Query("UPDATE DailyProductSales p SET p.quantity = p.quantity + :quantity, p.revenue = p.revenue + :revenue "
+            + "WHERE p.salesDate = :date AND p.productId = :productId")
+    int addToProduct(@Param("date") LocalDate date,
+                     @Param("productId") Long productId,
+                     @Param("quantity") long quantity,
+                     @Param("revenue") BigDecimal revenue);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_product_sales"))
+    @Query(value = "INSERT INTO daily_product_sales (sales_date, product_id, product_name, quantity, revenue) "
+            + "SELECT CAST(:date AS DATE), :productId, :productName, 0, 0 WHERE NOT EXISTS "
+            + "(SELECT 1 FROM daily_product_sales WHERE sales_date = CAST(:date AS DATE) AND product_id = :productId)",
+            nativeQuery = true)
+    int insertEmptyProduct(@Param("date") LocalDate date,
+                           @Param("productId") Long productId,
+                           @Param("productName") String productName);
+
+    @Modifying
+    @Query("DELETE FROM DailyProductSales p WHERE p.salesDate BETWEEN :from AND :to")
+    int deleteBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_product_sales"))
+    @Query(value = "INSERT INTO daily_product_sales (sales_date, product_id, product_name, quantity, revenue) "
+            + "SELECT CAST(x.created_at AS DATE), x.product_id, MAX(x.product_name), SUM(x.quantity), "
+            + "SUM(x.subtotal) FROM ("
+            + "SELECT o.created_at, oi.product_id, oi.product_name, oi.quantity, oi.subtotal "
+            + "FROM orders o JOIN order_items oi ON oi.order_id = o.id "
+            + "WHERE o.status <> 'CANCELLED' AND o.created_at >= :from AND o.created_at < :to "
+            + "UNION ALL "
+            + "SELECT a.created_at, ai.product_id, ai.product_name, ai.quantity, ai.subtotal "
+            + "FROM orders_archive a JOIN order_items_archive ai ON ai.order_id = a.id "
+            + "WHERE a.status <> 'CANCELLED' AND a.created_at >= :from AND a.created_at < :to"
+            + ") x GROUP BY CAST(x.created_at AS DATE), x.product_id", nativeQuery = true)
+    int rebuildBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
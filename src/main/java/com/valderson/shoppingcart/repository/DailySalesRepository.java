@@ -0,0 +1,58 @@
+package com.valderson.shoppingcart.repository;
+
+import com.valderson.shoppingcart.entity.DailySales;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DailySalesRepository extends JpaRepository<DailySales, LocalDate> {
+
+    List<DailySales> findBySalesDateBetweenOrderBySalesDate(LocalDate from, LocalDate to);
+
+    // Incremento atômico: instâncias aplicando lotes ao mesmo dia não perdem somas
+    @Modifying
+    @Query("UPDATE DailySales d SET d.orderCount = d.orderCount + :orders, d.itemCount = d.itemCount + :items, "
+            + "d.revenue = d.revenue + :revenue WHERE d.salesDate = :date")
+    int addToDay(@Param("date") LocalDate date,
+                 @Param("orders") long orders,
+                 @Param("items") long items,
+                 @Param("revenue") BigDecimal revenue);
+
+    // Linha zerada para o incremento; concorrentes falham na chave primária
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_sales"))
+    @Query(value = "INSERT INTO daily_sales (sales_date, order_count, item_count, revenue) "
+            + "SELECT CAST(:date AS DATE), 0, 0, 0 WHERE NOT EXISTS "
+            + "(SELECT 1 FROM daily_sales WHERE sales_date = CAST(:date AS DATE))", nativeQuery = true)
+    int insertEmptyDay(@Param("date") LocalDate date);
+
+    @Modifying
+    @Query("DELETE FROM DailySales d WHERE d.salesDate BETWEEN :from AND :to")
+    int deleteBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Recalcula os totais diários a partir dos pedidos (quentes e arquivados) não cancelados
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_sales"))
+    @Query(value = "INSERT INTO daily_sales (sales_date, order_count, item_count, revenue) "
+            + "SELECT CAST(x.created_at AS DATE), COUNT(*), SUM(x.item_count), SUM(x.total_amount) FROM ("
+            + "SELECT o.created_at, o.total_amount, "
+            + "(SELECT COALESCE(SUM(oi.quantity), 0) FROM order_items oi WHERE oi.order_id = o.id) AS item_count "
+            + "FROM orders o WHERE o.status <> 'CANCELLED' AND o.created_at >= :from AND o.created_at < :to "
+            + "UNION ALL "
+            + "SELECT a.created_at, a.total_amount, "
+            + "(SELECT COALESCE(SUM(ai.quantity), 0) FROM order_items_archive ai WHERE ai.order_id = a.id) "
+            + "FROM orders_archive a WHERE a.status <> 'CANCELLED' AND a.created_at >= :from AND a.created_at < :to"
+            + ") x GROUP BY CAST(x.created_at AS DATE)", nativeQuery = true)
+    int rebuildBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -1,11 +1,19 @@
 package com.valderson.shoppingcart.repository;
 
+import com.valderson.shoppingcart.dto.response.OrderSummaryResponse;
 import com.valderson.shoppingcart.entity.Order;
 import com.valderson.shoppingcart.enums.OrderStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -13,4 +21,49 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByUserIdOrderByCreatedAtDesc(Long userId);
 
     List<Order> findByUserIdAndStatus(Long userId, OrderStatus status);
-}
\ No newline at end of file
+
+    // Resumo agregado: uma única consulta, sem materializar os itens do pedido
+    @Query("SELECT new com.valderson.shoppingcart.dto.response.OrderSummaryResponse("
+            + "o.id, o.status, o.createdAt, o.totalAmount, COUNT(oi.id)) "
+            + "FROM Order o LEFT JOIN o.orderItems oi "
+            + "WHERE o.user.id = :userId "
+            + "GROUP BY o.id, o.status, o.createdAt, o.totalAmount "
+            + "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderSummaryResponse> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    long countByUserId(Long userId);
+
+    // Pedidos em status final anteriores ao corte, candidatos ao arquivo
+    @Query("SELECT o.id FROM Order o WHERE o.status IN :statuses AND o.createdAt < :cutoff ORDER BY o.id")
+    List<Long> findArchivableIds(@Param("statuses") Collection<OrderStatus> statuses,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 Pageable pageable);
+
+    // Detalhe do pedido com itens carregados na mesma consulta
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems "
+            + "WHERE o.id = :orderId AND o.user.id = :userId")
+    Optional<Order> findByIdAndUserIdWithItems(@Param("orderId") Long orderId, @Param("userId") Long userId);
+
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.id IN :orderIds")
+    List<Order> findAllByIdWithItems(@Param("orderIds") Collection<Long> orderIds);
+
+    @Query("SELECT o.id FROM Order o "
+            + "WHERE NOT EXISTS (SELECT 1 FROM OrderView v WHERE v.orderId = o.id) ORDER BY o.id")
+    List<Long> findIdsWithoutView(Pageable pageable);
+
+    // Transição condicional: o número de linhas afetadas decide se a mudança ocorreu
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :newStatus, o.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE o.id = :orderId AND o.user.id = :userId AND o.status = :expectedStatus")
+    int transitionStatus(@Param("orderId") Long orderId,
+                         @Param("userId") Long userId,
+                         @Param("expectedStatus") OrderStatus expectedStatus,
+                         @Param("newStatus") OrderStatus newStatus);
+
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :newStatus, o.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE o.id IN :orderIds AND o.status = :expectedStatus")
+    int transitionStatusBulk(@Param("orderIds") List<Long> orderIds,
+                             @Param("expectedStatus") OrderStatus expectedStatus,
+                             @Param("newStatus") OrderStatus newStatus);
+}
@@ -0,0 +1,35 @@
+package com.valderson.shoppingcart.repository;
+
+import com.valderson.shoppingcart.entity.OrderView;
+import com.valderson.shoppingcart.enums.OrderStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OrderViewRepository extends JpaRepository<OrderView, Long> {
+
+    List<OrderView> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    Optional<OrderView> findByOrderIdAndUserId(Long orderId, Long userId);
+
+    @Modifying
+    @Query("UPDATE OrderView v SET v.status = :newStatus, v.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE v.orderId IN :orderIds AND v.status = :expectedStatus")
+    int updateStatus(@Param("orderIds") List<Long> orderIds,
+                     @Param("expectedStatus") OrderStatus expectedStatus,
+                     @Param("newStatus") OrderStatus newStatus);
+
+    // Pedidos do usuário ainda sem documento (anteriores ao modelo de leitura), quentes ou arquivados
+    @Query(value = "SELECT o.id FROM orders o WHERE o.user_id = :userId "
+            + "AND NOT EXISTS (SELECT 1 FROM order_views v WHERE v.order_id = o.id) "
+            + "UNION ALL "
+            + "SELECT a.id FROM orders_archive a WHERE a.user_id = :userId "
+            + "AND NOT EXISTS (SELECT 1 FROM order_views v WHERE v.order_id = a.id)", nativeQuery = true)
+    List<Long> findUserOrderIdsWithoutView(@Param("userId") Long userId);
+}
@@ -0,0 +1,56 @@
+package com.valderson.shoppingcart.repository;
+
+import com.valderson.shoppingcart.entity.OutboxEvent;
+import com.valderson.shoppingcart.enums.OutboxStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Reivindica um lote sem bloquear outros dispatchers: linhas já travadas são puladas
+    @Query(value = "SELECT * FROM order_outbox WHERE status = 'PENDING' AND available_at <= :now "
+            + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> claimBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // Feed de mudanças para os agregados: independente do status de publicação
+    @Query(value = "SELECT * FROM order_outbox WHERE rolled_up = FALSE "
+            + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> claimForRollup(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.rolledUp = true WHERE e.id IN :ids")
+    int markRolledUp(@Param("ids") Collection<Long> ids);
+
+    // Eventos de pedidos já refletidos por um recálculo (backfill)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "order_outbox"))
+    @Query(value = "UPDATE order_outbox SET rolled_up = TRUE WHERE rolled_up = FALSE AND aggregate_id IN ("
+            + "SELECT id FROM orders WHERE created_at >= :from AND created_at < :to "
+            + "UNION SELECT id FROM orders_archive WHERE created_at >= :from AND created_at < :to)",
+            nativeQuery = true)
+    int markRolledUpForOrdersCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    long countByStatus(OutboxStatus status);
+
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.status = :status")
+    LocalDateTime findOldestCreatedAt(@Param("status") OutboxStatus status);
+
+    // Com os agregados ligados, o evento só sai depois de somado; desligados, ninguém marcaria rolled_up
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = :status AND e.publishedAt < :cutoff "
+            + "AND (e.rolledUp = true OR :requireRolledUp = false)")
+    int deletePublishedBefore(@Param("status") OutboxStatus status,
+                              @Param("cutoff") LocalDateTime cutoff,
+                              @Param("requireRolledUp") boolean requireRolledUp);
+}
@@ -0,0 +1,28 @@
+package com.valderson.shoppingcart.repository;
+
+import com.valderson.shoppingcart.entity.ProductInventory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ProductInventoryRepository extends JpaRepository<ProductInventory, Long> {
+
+    // Baixa condicional: retorna 0 quando não há estoque suficiente
+    @Modifying
+    @Query("UPDATE ProductInventory pi SET pi.stock = pi.stock - :quantity, pi.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE pi.productId = :productId AND pi.stock >= :quantity")
+    int decrementStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("UPDATE ProductInventory pi SET pi.stock = pi.stock + :quantity, pi.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE pi.productId = :productId")
+    int incrementStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    @Query("SELECT pi.stock FROM ProductInventory pi WHERE pi.productId = :productId")
+    Optional<Integer> findStockByProductId(@Param("productId") Long productId);
+}
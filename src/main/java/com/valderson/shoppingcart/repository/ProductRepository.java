@@ -1,7 +1,10 @@
 package com.valderson.shoppingcart.repository;
 
 import com.valderson.shoppingcart.entity.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,5 +12,10 @@ import java.util.List;
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
+    // Catálogo no cache de consultas; invalidado por qualquer escrita em products
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalog")
+    })
     List<Product> findAllByOrderByCreatedAtDesc();
 }
\ No newline at end of file
@@ -2,14 +2,31 @@ package com.valderson.shoppingcart.repository;
 
 import com.valderson.shoppingcart.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
-    boolean existsByEmail(String email);
-}
\ No newline at end of file
+    Optional<User> findByEmailNormalized(String emailNormalized);
+
+    boolean existsByEmailNormalized(String emailNormalized);
+
+    @Query("SELECT u.emailNormalized FROM User u")
+    Stream<String> streamAllNormalizedEmails();
+
+    // Condicional ao hash antigo: não sobrescreve uma troca de senha concorrente.
+    // Por ser um UPDATE em massa, o Hibernate descarta a região "user" do cache de segundo nível
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.passwordHash = :newHash WHERE u.id = :id AND u.passwordHash = :oldHash")
+    int updatePasswordHash(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+}
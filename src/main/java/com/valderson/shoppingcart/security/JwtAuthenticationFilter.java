@@ -1,6 +1,8 @@
 package com.valderson.shoppingcart.security;
 
+import com.valderson.shoppingcart.config.AdminConfig;
 import com.valderson.shoppingcart.config.JwtConfig;
+import com.valderson.shoppingcart.service.TokenRevocationService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -9,20 +11,41 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    public static final String PRINCIPAL_ATTRIBUTE = "jwtPrincipal";
+
+    // Rotas públicas não precisam do token; normalmente nem chegam aqui (cadeia própria)
+    private static final RequestMatcher PUBLIC_PATHS = new OrRequestMatcher(Arrays.stream(PublicPaths.ALL)
+            .map(AntPathRequestMatcher::new)
+            .map(RequestMatcher.class::cast)
+            .toList());
+
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtConfig jwtConfig;
+    private final AdminConfig adminConfig;
+    private final TokenRevocationService tokenRevocationService;
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return PUBLIC_PATHS.matches(request);
+    }
 
     @Override
     protected void doFilterInternal(final HttpServletRequest request,
@@ -31,14 +54,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = getTokenFromCookie(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
+        JwtPrincipal principal = token != null ? jwtTokenProvider.verify(token) : null;
+
+        if (principal != null && tokenRevocationService.isRevoked(principal)) {
+            log.warn("Revoked JWT token used by user {}", principal.getUserId());
+            principal = null;
+        }
+
+        if (principal != null) {
             try {
-                Long userId = jwtTokenProvider.getUserIdFromToken(token);
-                String email = jwtTokenProvider.getEmailFromToken(token);
+                Long userId = principal.getUserId();
+                String email = principal.getEmail();
 
                 // Criar autenticação
                 UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userId, null, new ArrayList<>());
+                        new UsernamePasswordAuthenticationToken(userId, null, authoritiesFor(email));
 
                 // Adicionar informações extras
                 authentication.setDetails(email);
@@ -48,6 +78,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 // Adicionar userId como atributo da request para fácil acesso
                 request.setAttribute("userId", userId);
                 request.setAttribute("userEmail", email);
+                request.setAttribute(PRINCIPAL_ATTRIBUTE, principal);
 
             } catch (Exception e) {
                 log.error("Cannot set user authentication: {}", e.getMessage());
@@ -58,6 +89,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private List<GrantedAuthority> authoritiesFor(final String email) {
+        if (adminConfig.isAdmin(email)) {
+            return List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        }
+        return List.of();
+    }
+
     private String getTokenFromCookie(final HttpServletRequest request) {
         Cookie[] cookies = request.getCookies();
         if (cookies != null) {
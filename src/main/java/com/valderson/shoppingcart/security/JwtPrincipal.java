@@ -0,0 +1,32 @@
+package com.valderson.shoppingcart.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Dados de um token já verificado (assinatura e expiração).
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class JwtPrincipal {
+    private final Long userId;
+    private final String email;
+    private final String jti; // Nulo em tokens emitidos antes da revogação existir
+    private final String name;
+    private final LocalDateTime createdAt;
+    private final long issuedAtMillis;
+    private final long expiresAtMillis;
+
+    // Tokens antigos não trazem nome e data de criação
+    public boolean hasProfile() {
+        return name != null && createdAt != null;
+    }
+
+    public boolean isExpired(final long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
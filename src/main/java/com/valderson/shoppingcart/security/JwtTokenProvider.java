@@ -1,18 +1,28 @@
 package com.valderson.shoppingcart.security;
 
 import com.valderson.shoppingcart.config.JwtConfig;
+import com.valderson.shoppingcart.dto.response.UserResponse;
+import com.valderson.shoppingcart.util.LruCache;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
@@ -20,51 +30,104 @@ import java.util.Date;
 public class JwtTokenProvider {
 
     private final JwtConfig jwtConfig;
+    private final MeterRegistry meterRegistry;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes());
+    // Chave e parser são imutáveis e thread-safe: criados uma vez na inicialização
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // Só a verificação completa (HMAC + claims) é medida; acertos no cache não passam por aqui
+    private Timer validParseTimer;
+    private Timer invalidParseTimer;
+
+    // Tokens já verificados; evita repetir o HMAC a cada requisição do mesmo usuário.
+    // Cheio, descarta os usados há mais tempo: os tokens ativos continuam em cache
+    private LruCache<String, JwtPrincipal> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        validParseTimer = parseTimer("valid");
+        invalidParseTimer = parseTimer("invalid");
+        int cacheSize = jwtConfig.getVerifiedCacheSize();
+        verifiedTokens = cacheSize > 0 ? new LruCache<>(cacheSize) : null;
+    }
+
+    private Timer parseTimer(final String result) {
+        return Timer.builder("jwt.parse")
+                .description("Verificação de assinatura e leitura das claims do JWT")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
     public String generateToken(final Long userId, final String email) {
+        return buildToken(userId, email, null, null);
+    }
+
+    // Nome e data de criação no token permitem responder o /me sem ir ao banco
+    public String generateToken(final UserResponse user) {
+        return buildToken(user.getId(), user.getEmail(), user.getName(), user.getCreatedAt());
+    }
+
+    private String buildToken(final Long userId,
+                              final String email,
+                              final String name,
+                              final LocalDateTime createdAt) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + (jwtConfig.getExpiration() * 1000L));
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userId.toString())
                 .claim("email", email)
+                .claim("name", name)
+                .claim("createdAt", createdAt != null ? createdAt.toString() : null)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)  // Mudança aqui: setExpiration ao invés de setExpirationTime
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public Long getUserIdFromToken(final String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return Long.valueOf(claims.getSubject());
-    }
+    /**
+     * Verifica o token uma única vez e devolve os dados do usuário, ou null se o token
+     * for inválido ou estiver expirado.
+     */
+    public JwtPrincipal verify(final String token) {
+        long now = System.currentTimeMillis();
 
-    public String getEmailFromToken(final String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        JwtPrincipal cached = verifiedTokens != null ? verifiedTokens.get(token) : null;
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            verifiedTokens.remove(token, cached);
+        }
 
-        return claims.get("email", String.class);
+        long startedAt = System.nanoTime();
+        JwtPrincipal principal = parse(token);
+        Timer timer = principal != null ? validParseTimer : invalidParseTimer;
+        timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        if (principal != null && verifiedTokens != null) {
+            verifiedTokens.put(token, principal);
+        }
+        return principal;
     }
 
-    public boolean validateToken(final String token) {
+    private JwtPrincipal parse(final String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            String createdAt = claims.get("createdAt", String.class);
+            return new JwtPrincipal(
+                    Long.valueOf(claims.getSubject()),
+                    claims.get("email", String.class),
+                    claims.getId(),
+                    claims.get("name", String.class),
+                    createdAt != null ? LocalDateTime.parse(createdAt) : null,
+                    claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L,
+                    claims.getExpiration().getTime());
         } catch (MalformedJwtException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -76,6 +139,6 @@ public class JwtTokenProvider {
         } catch (Exception e) {
             log.error("JWT token validation error: {}", e.getMessage());
         }
-        return false;
+        return null;
     }
-}
\ No newline at end of file
+}
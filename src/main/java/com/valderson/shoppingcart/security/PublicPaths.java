@@ -0,0 +1,39 @@
+package com.valderson.shoppingcart.security;
+
+import java.util.Arrays;
+
+/**
+ * Rotas que não dependem do usuário: atendidas por uma cadeia de segurança enxuta,
+ * sem leitura de cookie, verificação de JWT ou SecurityContext.
+ * O logout não entra aqui porque precisa do token para revogá-lo.
+ */
+public final class PublicPaths {
+
+    public static final String[] AUTH = {
+            "/api/auth/login",
+            "/api/auth/register"
+    };
+
+    public static final String[] CATALOG = {
+            "/api/products/**"
+    };
+
+    public static final String[] SWAGGER = {
+            "/swagger-ui/**",
+            "/swagger-ui.html",
+            "/v3/api-docs/**",
+            "/swagger-resources/**",
+            "/webjars/**"
+    };
+
+    public static final String[] ALL = concat(AUTH, CATALOG, SWAGGER);
+
+    private PublicPaths() {
+    }
+
+    private static String[] concat(final String[]... groups) {
+        return Arrays.stream(groups)
+                .flatMap(Arrays::stream)
+                .toArray(String[]::new);
+    }
+}
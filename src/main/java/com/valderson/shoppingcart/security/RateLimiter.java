@@ -0,0 +1,115 @@
+package com.valderson.shoppingcart.security;
+
+import com.valderson.shoppingcart.config.RateLimitConfig;
+import com.valderson.shoppingcart.dto.response.RateLimitStatsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket em memória no formato GCRA: cada bucket guarda apenas o "horário teórico
+ * de chegada" (TAT) em um AtomicLong, atualizado com CAS, sem locks.
+ * Um bucket cujo TAT já passou está cheio e equivale a um bucket novo, então a remoção
+ * de buckets ociosos não perde estado.
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    private final List<RouteBudget> routes = new ArrayList<>();
+    private final RouteBudget defaultBudget;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    private final AtomicLong allowedTotal = new AtomicLong();
+    private final AtomicLong rejectedTotal = new AtomicLong();
+
+    public RateLimiter(final RateLimitConfig rateLimitConfig) {
+        List<RateLimitConfig.Budget> configured = rateLimitConfig.getRoutes();
+        for (int i = 0; i < configured.size(); i++) {
+            routes.add(new RouteBudget("r" + i, configured.get(i)));
+        }
+        this.defaultBudget = new RouteBudget("default", rateLimitConfig.getDefaultBudget());
+    }
+
+    /**
+     * Consome uma requisição do bucket do cliente na rota.
+     *
+     * @return 0 se a requisição foi aceita, ou o tempo de espera em nanossegundos
+     */
+    public long tryAcquire(final String method, final String path, final String clientKey) {
+        RouteBudget route = resolve(method, path);
+        AtomicLong bucket = buckets.computeIfAbsent(route.id + ":" + clientKey, key -> new AtomicLong());
+
+        long now = System.nanoTime();
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, now) + route.emissionIntervalNanos;
+            long wait = newTat - now - route.burstToleranceNanos;
+            if (wait > 0) {
+                rejectedTotal.incrementAndGet();
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                allowedTotal.incrementAndGet();
+                return 0;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(tat -> tat.get() - now <= 0);
+        log.debug("Rate limit: {} buckets ociosos removidos", before - buckets.size());
+    }
+
+    public RateLimitStatsResponse getStats() {
+        return RateLimitStatsResponse.builder()
+                .activeBuckets(buckets.size())
+                .allowedTotal(allowedTotal.get())
+                .rejectedTotal(rejectedTotal.get())
+                .build();
+    }
+
+    private RouteBudget resolve(final String method, final String path) {
+        for (RouteBudget route : routes) {
+            if (route.matches(method, path, pathMatcher)) {
+                return route;
+            }
+        }
+        return defaultBudget;
+    }
+
+    private static final class RouteBudget {
+        private final String id;
+        private final String pattern;
+        private final String method;
+        private final long emissionIntervalNanos;
+        private final long burstToleranceNanos;
+
+        RouteBudget(final String id, final RateLimitConfig.Budget budget) {
+            this.id = id;
+            this.pattern = budget.getPattern();
+            this.method = budget.getMethod();
+            this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, budget.getRequestsPerMinute());
+            this.burstToleranceNanos = emissionIntervalNanos * Math.max(1, budget.getBurst());
+        }
+
+        boolean matches(final String requestMethod, final String path, final AntPathMatcher matcher) {
+            if (method != null && !method.isEmpty() && !method.equalsIgnoreCase(requestMethod)) {
+                return false;
+            }
+            return pattern != null && matcher.match(pattern, path);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.valderson.shoppingcart.security;
+
+import com.valderson.shoppingcart.config.UserCacheConfig;
+import com.valderson.shoppingcart.dto.response.UserResponse;
+import com.valderson.shoppingcart.util.LruCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache limitado dos dados do usuário autenticado (/me). Alterações em User pela JPA
+ * invalidam a entrada nesta instância (UserPrincipalCacheListener); o TTL limita o tempo
+ * de desatualização nas demais. Cheio, descarta os usuários consultados há mais tempo.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalCache {
+
+    private final UserCacheConfig userCacheConfig;
+
+    private LruCache<Long, CachedUser> users;
+
+    @PostConstruct
+    void init() {
+        int maxSize = userCacheConfig.getMaxSize();
+        users = maxSize > 0 ? new LruCache<>(maxSize) : null;
+    }
+
+    public UserResponse get(final Long userId) {
+        if (users == null) {
+            return null;
+        }
+        CachedUser cached = users.get(userId);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.isExpired(System.currentTimeMillis(), userCacheConfig.getTtlMs())) {
+            users.remove(userId, cached);
+            return null;
+        }
+        return cached.user();
+    }
+
+    public void put(final UserResponse user) {
+        if (users != null) {
+            users.put(user.getId(), new CachedUser(user, System.currentTimeMillis()));
+        }
+    }
+
+    public void evict(final Long userId) {
+        if (users != null) {
+            users.remove(userId);
+        }
+    }
+
+    private record CachedUser(UserResponse user, long loadedAtMillis) {
+
+        boolean isExpired(final long nowMillis, final long ttlMs) {
+            return nowMillis - loadedAtMillis >= ttlMs;
+        }
+    }
+}
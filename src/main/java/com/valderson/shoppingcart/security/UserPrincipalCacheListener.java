@@ -0,0 +1,22 @@
+package com.valderson.shoppingcart.security;
+
+import com.valderson.shoppingcart.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Entity listener de User. O Hibernate cria a instância pelo container do Spring,
+ * injetando o cache compartilhado.
+ */
+@RequiredArgsConstructor
+public class UserPrincipalCacheListener {
+
+    private final UserPrincipalCache userPrincipalCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(final User user) {
+        userPrincipalCache.evict(user.getId());
+    }
+}
@@ -1,37 +1,68 @@
 package com.valderson.shoppingcart.service;
 
+import com.valderson.shoppingcart.config.JwtConfig;
 import com.valderson.shoppingcart.dto.request.LoginRequest;
 import com.valderson.shoppingcart.dto.request.RegisterRequest;
 import com.valderson.shoppingcart.dto.response.UserResponse;
+import com.valderson.shoppingcart.entity.ShoppingCart;
 import com.valderson.shoppingcart.entity.User;
+import com.valderson.shoppingcart.exception.EmailAlreadyRegisteredException;
+import com.valderson.shoppingcart.repository.ShoppingCartRepository;
 import com.valderson.shoppingcart.repository.UserRepository;
+import com.valderson.shoppingcart.security.JwtPrincipal;
+import com.valderson.shoppingcart.security.UserPrincipalCache;
+import com.valderson.shoppingcart.util.EmailUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
+@Slf4j
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final ShoppingCartRepository shoppingCartRepository;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final PlatformTransactionManager transactionManager;
+    private final PasswordHashingService passwordHashingService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final JwtConfig jwtConfig;
 
+    // Sem transação: a conexão do banco não fica presa enquanto o hash é calculado
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse register(RegisterRequest request) {
-        // Verificar se email já existe
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new RuntimeException("Email já está em uso");
+        String normalizedEmail = EmailUtil.normalize(request.getEmail());
+
+        // Email possivelmente cadastrado: confirma no banco antes de gastar o hash da senha
+        if (registeredEmailFilter.mightBeRegistered(normalizedEmail)
+                && userRepository.existsByEmailNormalized(normalizedEmail)) {
+            throw new EmailAlreadyRegisteredException();
         }
 
-        // Criar usuário
-        User user = User.builder()
-                .name(request.getName())
-                .email(request.getEmail())
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
-                .build();
+        String passwordHash = passwordHashingService.encode(request.getPassword());
 
-        User savedUser = userRepository.save(user);
+        // Usuário e carrinho na mesma transação; o índice único resolve cadastros concorrentes
+        User savedUser;
+        try {
+            savedUser = new TransactionTemplate(transactionManager)
+                    .execute(status -> createUserWithCart(request, passwordHash));
+        } catch (DataIntegrityViolationException e) {
+            if (!violatesEmailConstraint(e)) {
+                throw e;
+            }
+            throw new EmailAlreadyRegisteredException();
+        }
+        registeredEmailFilter.add(normalizedEmail);
 
         return UserResponse.builder()
                 .id(savedUser.getId())
@@ -41,14 +72,36 @@ public class AuthService {
                 .build();
     }
 
+    /**
+     * Só as restrições únicas de email significam cadastro duplicado; outras violações
+     * (coluna longa demais, nulo) não podem virar 409. O H2 não informa o nome da restrição
+     * à exceção do Hibernate: nesse caso o nome é procurado na mensagem do driver.
+     */
+    private static boolean violatesEmailConstraint(DataIntegrityViolationException e) {
+        String constraint = e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                ? violation.getConstraintName()
+                : e.getMostSpecificCause().getMessage();
+        if (constraint == null) {
+            return false;
+        }
+        constraint = constraint.toLowerCase(Locale.ROOT);
+        return constraint.contains(User.EMAIL_NORMALIZED_CONSTRAINT) || constraint.contains(User.EMAIL_CONSTRAINT);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse login(LoginRequest request) {
-        User user = userRepository.findByEmail(request.getEmail())
+        User user = userRepository.findByEmailNormalized(EmailUtil.normalize(request.getEmail()))
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPasswordHash())) {
             throw new RuntimeException("Senha incorreta");
         }
 
+        if (passwordHashingService.needsRehash(user.getPasswordHash())) {
+            rehash(user, request.getPassword());
+        }
+
         return UserResponse.builder()
                 .id(user.getId())
                 .name(user.getName())
@@ -57,15 +110,66 @@ public class AuthService {
                 .build();
     }
 
+    /**
+     * Dados do usuário autenticado: com token recente, direto das claims; senão, do cache
+     * e, por último, do banco.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserResponse getCurrentUser(JwtPrincipal principal) {
+        long tokenAgeMs = System.currentTimeMillis() - principal.getIssuedAtMillis();
+        if (principal.hasProfile() && tokenAgeMs < jwtConfig.getProfileFreshSeconds() * 1000L) {
+            return UserResponse.builder()
+                    .id(principal.getUserId())
+                    .name(principal.getName())
+                    .email(principal.getEmail())
+                    .createdAt(principal.getCreatedAt())
+                    .build();
+        }
+        return getUserById(principal.getUserId());
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse getUserById(Long userId) {
+        UserResponse cached = userPrincipalCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
 
-        return UserResponse.builder()
+        UserResponse response = UserResponse.builder()
                 .id(user.getId())
                 .name(user.getName())
                 .email(user.getEmail())
                 .createdAt(user.getCreatedAt())
                 .build();
+        userPrincipalCache.put(response);
+        return response;
+    }
+
+    private User createUserWithCart(RegisterRequest request, String passwordHash) {
+        User user = userRepository.save(User.builder()
+                .name(request.getName())
+                .email(request.getEmail())
+                .passwordHash(passwordHash)
+                .build());
+
+        shoppingCartRepository.save(ShoppingCart.builder()
+                .user(user)
+                .build());
+        return user;
+    }
+
+    // Migração de custo: a senha em texto só está disponível no login
+    private void rehash(User user, String rawPassword) {
+        try {
+            String newHash = passwordHashingService.encode(rawPassword);
+            userRepository.updatePasswordHash(user.getId(), user.getPasswordHash(), newHash);
+            passwordHashingService.recordRehash();
+        } catch (RuntimeException e) {
+            // O login já foi validado; a migração é tentada de novo no próximo login
+            log.warn("Não foi possível atualizar o hash da senha do usuário {}: {}", user.getId(), e.getMessage());
+        }
     }
-}
\ No newline at end of file
+}
@@ -11,6 +11,7 @@ import com.valderson.shoppingcart.repository.CartItemRepository;
 import com.valderson.shoppingcart.repository.ProductRepository;
 import com.valderson.shoppingcart.repository.ShoppingCartRepository;
 import com.valderson.shoppingcart.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +23,7 @@ import java.util.stream.Collectors;
 
 @Service
 @Transactional
+@Timed("shoppingcart.service")
 @RequiredArgsConstructor
 public class CartService {
 
@@ -32,7 +34,8 @@ public class CartService {
 
     public CartResponse getCartByUserId(Long userId) {
         ShoppingCart cart = findOrCreateCart(userId);
-        List<CartItem> items = cart.getCartItems();
+        // Itens com produto em uma consulta só (percorrer cart.getCartItems() carrega um produto por item)
+        List<CartItem> items = cartItemRepository.findByShoppingCartIdWithProduct(cart.getId());
 
         return buildCartResponse(cart, items);
     }
@@ -83,7 +86,7 @@ public class CartService {
         List<CartItem> items = cartItemRepository.findByShoppingCartIdWithProduct(cart.getId());
 
         return items.stream()
-                .map(this::calculateItemSubtotal)
+                .map(CartService::calculateItemSubtotal)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 
@@ -117,9 +120,10 @@ public class CartService {
         return savedCart;
     }
 
-    private CartResponse buildCartResponse(ShoppingCart cart, List<CartItem> items) {
+    // Visível no pacote para os benchmarks (src/jmh)
+    static CartResponse buildCartResponse(ShoppingCart cart, List<CartItem> items) {
         List<CartItemResponse> itemResponses = items.stream()
-                .map(this::mapToCartItemResponse)
+                .map(CartService::mapToCartItemResponse)
                 .collect(Collectors.toList());
 
         BigDecimal total = itemResponses.stream()
@@ -135,7 +139,7 @@ public class CartService {
                 .build();
     }
 
-    private CartItemResponse mapToCartItemResponse(CartItem item) {
+    private static CartItemResponse mapToCartItemResponse(CartItem item) {
         Product product = item.getProduct();
         BigDecimal subtotal = calculateItemSubtotal(item);
 
@@ -149,7 +153,7 @@ public class CartService {
                 .build();
     }
 
-    private BigDecimal calculateItemSubtotal(CartItem item) {
+    private static BigDecimal calculateItemSubtotal(CartItem item) {
         Product product = item.getProduct();
         return product.getPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
     }
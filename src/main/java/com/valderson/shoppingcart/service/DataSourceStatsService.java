@@ -0,0 +1,54 @@
+package com.valderson.shoppingcart.service;
+
+import com.valderson.shoppingcart.datasource.ReadReplicaRoutingDataSource;
+import com.valderson.shoppingcart.datasource.ReplicaStickiness;
+import com.valderson.shoppingcart.dto.response.ConnectionPoolStatsResponse;
+import com.valderson.shoppingcart.dto.response.DataSourceStatsResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class DataSourceStatsService {
+
+    private final ObjectProvider<HikariDataSource> hikariDataSources;
+    private final ObjectProvider<ReadReplicaRoutingDataSource> routingDataSource;
+    private final ReplicaStickiness replicaStickiness;
+
+    public DataSourceStatsResponse getStats() {
+        List<ConnectionPoolStatsResponse> pools = new ArrayList<>();
+        hikariDataSources.orderedStream().forEach(dataSource -> pools.add(toPoolStats(dataSource)));
+
+        ReadReplicaRoutingDataSource routing = routingDataSource.getIfAvailable();
+        return DataSourceStatsResponse.builder()
+                .replicaEnabled(routing != null)
+                .pools(pools)
+                .primaryRoutes(routing != null ? routing.getPrimaryRoutes() : null)
+                .replicaRoutes(routing != null ? routing.getReplicaRoutes() : null)
+                .stickyRoutes(routing != null ? routing.getStickyRoutes() : null)
+                .stickyUsers(replicaStickiness.size())
+                .build();
+    }
+
+    private ConnectionPoolStatsResponse toPoolStats(final HikariDataSource dataSource) {
+        ConnectionPoolStatsResponse.ConnectionPoolStatsResponseBuilder stats = ConnectionPoolStatsResponse.builder()
+                .name(dataSource.getPoolName())
+                .maximumPoolSize(dataSource.getMaximumPoolSize());
+
+        // O MXBean só existe depois que o pool é iniciado (primeira conexão)
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool != null) {
+            stats.activeConnections(pool.getActiveConnections())
+                    .idleConnections(pool.getIdleConnections())
+                    .totalConnections(pool.getTotalConnections())
+                    .threadsAwaitingConnection(pool.getThreadsAwaitingConnection());
+        }
+        return stats.build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.valderson.shoppingcart.service;
+
+import com.valderson.shoppingcart.config.EntityCacheConfig;
+import com.valderson.shoppingcart.dto.response.CacheRegionStatsResponse;
+import com.valderson.shoppingcart.dto.response.EntityCacheStatsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class EntityCacheStatsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityCacheConfig entityCacheConfig;
+
+    public EntityCacheStatsResponse getStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<CacheRegionStatsResponse> regions = new ArrayList<>();
+        for (Map.Entry<String, EntityCacheConfig.Region> entry : entityCacheConfig.getRegions().entrySet()) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(entry.getKey());
+            if (region == null) {
+                continue;
+            }
+            regions.add(CacheRegionStatsResponse.builder()
+                    .region(entry.getKey())
+                    .maxEntries(entry.getValue().getMaxEntries())
+                    .hits(region.getHitCount())
+                    .misses(region.getMissCount())
+                    .puts(region.getPutCount())
+                    .hitRatio(hitRatio(region.getHitCount(), region.getMissCount()))
+                    .build());
+        }
+
+        return EntityCacheStatsResponse.builder()
+                .enabled(entityCacheConfig.isEnabled())
+                .statisticsEnabled(statistics.isStatisticsEnabled())
+                .regions(regions)
+                .queryCacheHits(statistics.getQueryCacheHitCount())
+                .queryCacheMisses(statistics.getQueryCacheMissCount())
+                .queryCacheHitRatio(hitRatio(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount()))
+                .build();
+    }
+
+    private static double hitRatio(final long hits, final long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
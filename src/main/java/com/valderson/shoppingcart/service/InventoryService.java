@@ -0,0 +1,209 @@
+package com.valderson.shoppingcart.service;
+
+import com.valderson.shoppingcart.config.InventoryConfig;
+import com.valderson.shoppingcart.repository.ProductInventoryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reserva de estoque no checkout.
+ *
+ * Produtos comuns usam uma baixa condicional direto no banco, dentro da transação do pedido.
+ * Produtos configurados como "quentes" atendem as reservas a partir de um lote de unidades em
+ * memória, sem disputar o lock da linha; com o lote vazio, a reserva cai na mesma baixa
+ * condicional. O job de reconciliação (fora de qualquer transação de pedido, então sem segurar
+ * duas conexões do pool) completa os lotes até inventory.lease-size e devolve o excedente;
+ * o desligamento da aplicação devolve tudo.
+ *
+ * Unidades paradas em um lote só existem em memória: se o processo cair sem passar pelo
+ * desligamento, elas não voltam para product_inventory e o estoque fica menor que o real até ser
+ * corrigido à mão. O tamanho do lote (inventory.lease-size) limita essa perda por produto quente.
+ *
+ * Todo produto precisa de linha em product_inventory (migrações 011 e 019); sem ela a reserva
+ * é recusada, em vez de vender um estoque que nunca foi cadastrado.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryService {
+
+    private static final int MAX_LEASE_ATTEMPTS = 5;
+
+    private final ProductInventoryRepository inventoryRepository;
+    private final InventoryConfig inventoryConfig;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<Long, StockLease> leases = new ConcurrentHashMap<>();
+
+    @Transactional
+    public void reserve(Long productId, int quantity) {
+        if (isHot(productId)) {
+            StockLease lease = leaseFor(productId);
+            if (lease.tryTake(quantity)) {
+                // Se o pedido não for confirmado, as unidades voltam para o lote
+                runOnRollback(() -> lease.give(quantity));
+                return;
+            }
+        }
+
+        if (inventoryRepository.decrementStock(productId, quantity) == 0) {
+            if (inventoryRepository.findStockByProductId(productId).isEmpty()) {
+                throw new RuntimeException("Produto " + productId + " sem estoque cadastrado");
+            }
+            throw new RuntimeException("Estoque insuficiente para o produto " + productId);
+        }
+    }
+
+    @Transactional
+    public void release(Long productId, int quantity) {
+        if (isHot(productId)) {
+            // Só devolve ao lote em memória se o cancelamento for efetivado
+            StockLease lease = leaseFor(productId);
+            runAfterCommit(() -> lease.give(quantity));
+            return;
+        }
+
+        inventoryRepository.incrementStock(productId, quantity);
+    }
+
+    /**
+     * Leva cada lote ao tamanho configurado: completa os de produtos quentes com estoque do banco e
+     * devolve o excedente (tudo, se o produto deixou de ser quente).
+     */
+    @Scheduled(fixedDelayString = "${inventory.reconcile-interval-ms:5000}")
+    public void reconcileLeases() {
+        inventoryConfig.getHotProductIds().forEach(this::leaseFor);
+        leases.forEach((productId, lease) -> {
+            int target = isHot(productId) ? inventoryConfig.getLeaseSize() : 0;
+            int surplus = lease.available() - target;
+            if (surplus > 0 && lease.tryTake(surplus)) {
+                returnToDatabase(productId, surplus);
+            } else if (surplus < 0) {
+                lease.give(takeFromDatabase(productId, -surplus));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void returnAllLeases() {
+        leases.forEach((productId, lease) -> {
+            int remaining = lease.drain();
+            if (remaining > 0) {
+                returnToDatabase(productId, remaining);
+            }
+        });
+    }
+
+    private boolean isHot(Long productId) {
+        return inventoryConfig.getHotProductIds().contains(productId);
+    }
+
+    private StockLease leaseFor(Long productId) {
+        return leases.computeIfAbsent(productId, id -> new StockLease());
+    }
+
+    private int takeFromDatabase(Long productId, int wanted) {
+        try {
+            Integer taken = transaction().execute(status -> {
+                for (int attempt = 0; attempt < MAX_LEASE_ATTEMPTS; attempt++) {
+                    int stock = inventoryRepository.findStockByProductId(productId).orElse(0);
+                    int amount = Math.min(stock, wanted);
+                    if (amount <= 0) {
+                        return 0;
+                    }
+                    if (inventoryRepository.decrementStock(productId, amount) > 0) {
+                        return amount;
+                    }
+                }
+                return 0;
+            });
+            return taken == null ? 0 : taken;
+        } catch (RuntimeException e) {
+            // Sem lote nesta rodada: as reservas usam o banco até a próxima reconciliação
+            log.error("Falha ao abastecer o lote do produto {}: {}", productId, e.getMessage());
+            return 0;
+        }
+    }
+
+    private void returnToDatabase(Long productId, int quantity) {
+        try {
+            transaction().executeWithoutResult(status -> inventoryRepository.incrementStock(productId, quantity));
+        } catch (RuntimeException e) {
+            // Mantém as unidades em memória para a próxima reconciliação
+            leaseFor(productId).give(quantity);
+            log.error("Falha ao devolver {} unidades do produto {}: {}", quantity, productId, e.getMessage());
+        }
+    }
+
+    // Só usada pelo job e pelo desligamento, nunca dentro da transação de um pedido
+    private TransactionTemplate transaction() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void runOnRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private static final class StockLease {
+
+        private final AtomicInteger available = new AtomicInteger();
+
+        int available() {
+            return available.get();
+        }
+
+        boolean tryTake(int quantity) {
+            int current;
+            do {
+                current = available.get();
+                if (current < quantity) {
+                    return false;
+                }
+            } while (!available.compareAndSet(current, current - quantity));
+            return true;
+        }
+
+        void give(int quantity) {
+            available.addAndGet(quantity);
+        }
+
+        int drain() {
+            return available.getAndSet(0);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.valderson.shoppingcart.service;
+
+import com.valderson.shoppingcart.config.OrderArchiveConfig;
+import com.valderson.shoppingcart.enums.OrderStatus;
+import com.valderson.shoppingcart.repository.ArchivedOrderRepository;
+import com.valderson.shoppingcart.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Move pedidos finalizados e antigos para orders_archive/order_items_archive.
+ * Cada lote roda em sua própria transação para manter as tabelas quentes disponíveis.
+ * Os documentos do modelo de leitura ficam: o histórico continua lendo uma linha por pedido.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderArchiveService {
+
+    private static final List<OrderStatus> TERMINAL_STATUSES = Arrays.stream(OrderStatus.values())
+            .filter(OrderStatus::isTerminal)
+            .toList();
+
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final OrderArchiveConfig archiveConfig;
+    private final PlatformTransactionManager transactionManager;
+
+    @Scheduled(cron = "${orders.archive.cron:0 0 3 * * *}")
+    public void archiveScheduled() {
+        if (archiveConfig.isEnabled()) {
+            archiveFinishedOrders();
+        }
+    }
+
+    public int archiveFinishedOrders() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(archiveConfig.getMinAgeDays());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        int total = 0;
+        int moved;
+        do {
+            Integer result = transaction.execute(status -> archiveChunk(cutoff));
+            moved = result == null ? 0 : result;
+            total += moved;
+            pauseBetweenChunks(moved);
+        } while (moved == archiveConfig.getChunkSize() && !Thread.currentThread().isInterrupted());
+
+        if (total > 0) {
+            log.info("Arquivados {} pedidos anteriores a {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private int archiveChunk(LocalDateTime cutoff) {
+        List<Long> orderIds = orderRepository.findArchivableIds(TERMINAL_STATUSES, cutoff,
+                PageRequest.ofSize(archiveConfig.getChunkSize()));
+
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+
+        archivedOrderRepository.copyOrders(orderIds);
+        archivedOrderRepository.copyOrderItems(orderIds);
+        archivedOrderRepository.deleteHotOrderItems(orderIds);
+        archivedOrderRepository.deleteHotOrders(orderIds);
+
+        return orderIds.size();
+    }
+
+    private void pauseBetweenChunks(int moved) {
+        if (moved < archiveConfig.getChunkSize() || archiveConfig.getPauseMs() <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(archiveConfig.getPauseMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.valderson.shoppingcart.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.valderson.shoppingcart.config.OrderExportConfig;
+import com.valderson.shoppingcart.enums.ExportFormat;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exportação de pedidos com itens para o financeiro. As linhas vêm de um cursor no servidor
+ * (fetch size limitado, transação somente leitura) e são escritas na resposta à medida que
+ * chegam, então a memória usada não depende do tamanho do período.
+ * Arquivo e tabelas quentes são lidos no mesmo snapshot (REPEATABLE READ): um pedido
+ * arquivado durante a exportação não aparece duas vezes nem some.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderExportService {
+
+    private static final String COLUMNS = "SELECT o.id, o.user_id, o.status, o.created_at, o.total_amount, "
+            + "i.product_id, i.product_name, i.product_price, i.quantity, i.subtotal ";
+
+    private static final String ARCHIVE_SQL = COLUMNS
+            + "FROM orders_archive o LEFT JOIN order_items_archive i ON i.order_id = o.id "
+            + "WHERE o.created_at >= ? AND o.created_at < ? ORDER BY o.id, i.id";
+
+    private static final String ORDERS_SQL = COLUMNS
+            + "FROM orders o LEFT JOIN order_items i ON i.order_id = o.id "
+            + "WHERE o.created_at >= ? AND o.created_at < ? ORDER BY o.id, i.id";
+
+    private static final String CSV_HEADER = "order_id,user_id,status,created_at,total_amount,"
+            + "product_id,product_name,product_price,quantity,subtotal\n";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final OrderExportConfig orderExportConfig;
+    private final Environment environment;
+
+    private ThreadPoolExecutor executor;
+
+    public void export(LocalDate from, LocalDate to, ExportFormat format, OutputStream out) throws IOException {
+        List<DateRange> ranges = partition(from, to, orderExportConfig.getParallelism());
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+        }
+
+        long started = System.currentTimeMillis();
+        if (ranges.size() == 1) {
+            exportRange(ranges.get(0), format, writer);
+        } else {
+            writer.flush();
+            exportParallel(ranges, format, out);
+        }
+        writer.flush();
+
+        log.info("Exportação de pedidos {} a {} ({}) concluída em {} ms",
+                from, to, format, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Um pool para todas as exportações, criado uma vez: cada faixa ocupa uma conexão, então o
+     * número de threads limita quantas conexões as exportações tiram do pool do Hikari. Faixas
+     * além das threads esperam na fila; com a fila cheia, a exportação é recusada.
+     * As faixas passam a maior parte do tempo esperando o banco, então usam threads virtuais
+     * quando estão habilitadas.
+     */
+    @PostConstruct
+    void start() {
+        int threads = orderExportConfig.getThreads();
+        ThreadFactory threadFactory = Threading.VIRTUAL.isActive(environment)
+                ? Thread.ofVirtual().name("order-export-", 1).factory()
+                : Thread.ofPlatform().name("order-export-", 1).daemon(true).factory();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(orderExportConfig.getQueueCapacity()),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Cada faixa é lida por uma conexão própria e gravada em um arquivo temporário;
+     * os arquivos são copiados para a resposta na ordem das datas.
+     */
+    private void exportParallel(List<DateRange> ranges, ExportFormat format, OutputStream out) throws IOException {
+        List<Path> files = new ArrayList<>();
+        List<Future<?>> tasks = new ArrayList<>();
+        try {
+            for (DateRange range : ranges) {
+                Path file = Files.createTempFile("orders-export-", "." + format.getExtension());
+                files.add(file);
+                tasks.add(submit(() -> {
+                    try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                        exportRange(range, format, writer);
+                    }
+                    return null;
+                }));
+            }
+
+            for (int i = 0; i < tasks.size(); i++) {
+                awaitTask(tasks.get(i));
+                Files.copy(files.get(i), out);
+            }
+        } finally {
+            // O pool é compartilhado: só as faixas desta exportação são canceladas
+            tasks.forEach(task -> task.cancel(true));
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private Future<?> submit(Callable<Void> task) throws IOException {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new IOException("Exportações demais em andamento; tente novamente mais tarde", e);
+        }
+    }
+
+    private void exportRange(DateRange range, ExportFormat format, Writer writer) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        transaction.executeWithoutResult(status -> {
+            ExportRowHandler handler = format == ExportFormat.CSV
+                    ? new CsvRowHandler(writer)
+                    : new NdjsonRowHandler(writer, objectMapper);
+            stream(ARCHIVE_SQL, range, handler);
+            stream(ORDERS_SQL, range, handler);
+            handler.finish();
+        });
+    }
+
+    private void stream(String sql, DateRange range, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(orderExportConfig.getFetchSize());
+            statement.setTimestamp(1, Timestamp.valueOf(range.start()));
+            statement.setTimestamp(2, Timestamp.valueOf(range.end()));
+            return statement;
+        }, handler);
+    }
+
+    private static List<DateRange> partition(LocalDate from, LocalDate to, int parallelism) {
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        int parts = (int) Math.max(1, Math.min(parallelism, days));
+
+        List<DateRange> ranges = new ArrayList<>();
+        LocalDate start = from;
+        for (int i = 0; i < parts; i++) {
+            long length = days / parts + (i < days % parts ? 1 : 0);
+            LocalDate end = start.plusDays(length);
+            ranges.add(new DateRange(start.atStartOfDay(), end.atStartOfDay()));
+            start = end;
+        }
+        return ranges;
+    }
+
+    private static void awaitTask(Future<?> task) throws IOException {
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Exportação interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Erro ao exportar faixa de pedidos", e.getCause());
+        }
+    }
+
+    private record DateRange(LocalDateTime start, LocalDateTime end) {
+    }
+
+    private abstract static class ExportRowHandler implements RowCallbackHandler {
+
+        protected final Writer writer;
+
+        ExportRowHandler(final Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void processRow(final ResultSet rs) throws SQLException {
+            try {
+                writeRow(rs);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        protected abstract void writeRow(ResultSet rs) throws SQLException, IOException;
+
+        void finish() {
+        }
+    }
+
+    /**
+     * Uma linha por item, com os dados do pedido repetidos (formato plano para planilhas).
+     */
+    private static final class CsvRowHandler extends ExportRowHandler {
+
+        CsvRowHandler(final Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        protected void writeRow(final ResultSet rs) throws SQLException, IOException {
+            writer.write(rs.getLong("id") + "," + rs.getLong("user_id") + ","
+                    + rs.getString("status") + "," + rs.getTimestamp("created_at").toLocalDateTime() + ","
+                    + rs.getBigDecimal("total_amount").toPlainString() + ",");
+
+            if (rs.getObject("product_id") != null) {
+                writer.write(rs.getLong("product_id") + "," + csvText(rs.getString("product_name")) + ","
+                        + rs.getBigDecimal("product_price").toPlainString() + "," + rs.getInt("quantity") + ","
+                        + rs.getBigDecimal("subtotal").toPlainString());
+            } else {
+                writer.write(",,,,");
+            }
+            writer.write('\n');
+        }
+
+        private static String csvText(final String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    /**
+     * Um pedido por linha com os itens aninhados. As linhas chegam ordenadas por pedido,
+     * então basta fechar o objeto quando o id muda.
+     */
+    private static final class NdjsonRowHandler extends ExportRowHandler {
+
+        private final JsonGenerator generator;
+        private Long currentOrderId;
+
+        NdjsonRowHandler(final Writer writer, final ObjectMapper objectMapper) {
+            super(writer);
+            try {
+                this.generator = objectMapper.getFactory().createGenerator(writer);
+                // O separador de linhas é escrito por pedido; sem o espaço padrão entre valores raiz
+                this.generator.setRootValueSeparator(null);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        protected void writeRow(final ResultSet rs) throws SQLException, IOException {
+            long orderId = rs.getLong("id");
+            if (currentOrderId == null || currentOrderId != orderId) {
+                closeOrder();
+                currentOrderId = orderId;
+                generator.writeStartObject();
+                generator.writeNumberField("id", orderId);
+                generator.writeNumberField("userId", rs.getLong("user_id"));
+                generator.writeStringField("status", rs.getString("status"));
+                generator.writeStringField("createdAt", rs.getTimestamp("created_at").toLocalDateTime().toString());
+                generator.writeNumberField("totalAmount", rs.getBigDecimal("total_amount"));
+                generator.writeArrayFieldStart("items");
+            }
+
+            if (rs.getObject("product_id") != null) {
+                generator.writeStartObject();
+                generator.writeNumberField("productId", rs.getLong("product_id"));
+                generator.writeStringField("productName", rs.getString("product_name"));
+                generator.writeNumberField("productPrice", rs.getBigDecimal("product_price"));
+                generator.writeNumberField("quantity", rs.getInt("quantity"));
+                generator.writeNumberField("subtotal", rs.getBigDecimal("subtotal"));
+                generator.writeEndObject();
+            }
+        }
+
+        @Override
+        void finish() {
+            try {
+                closeOrder();
+                generator.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void closeOrder() throws IOException {
+            if (currentOrderId == null) {
+                return;
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            currentOrderId = null;
+        }
+    }
+}
@@ -1,33 +1,53 @@
 package com.valderson.shoppingcart.service;
 
+import com.valderson.shoppingcart.dto.request.BulkOrderStatusRequest;
+import com.valderson.shoppingcart.dto.response.BulkOrderStatusResponse;
 import com.valderson.shoppingcart.dto.response.OrderItemResponse;
 import com.valderson.shoppingcart.dto.response.OrderResponse;
+import com.valderson.shoppingcart.dto.response.OrderSummaryResponse;
+import com.valderson.shoppingcart.entity.ArchivedOrder;
 import com.valderson.shoppingcart.entity.CartItem;
 import com.valderson.shoppingcart.entity.Order;
 import com.valderson.shoppingcart.entity.OrderItem;
 import com.valderson.shoppingcart.entity.Product;
 import com.valderson.shoppingcart.entity.ShoppingCart;
 import com.valderson.shoppingcart.entity.User;
+import com.valderson.shoppingcart.enums.OrderEventType;
 import com.valderson.shoppingcart.enums.OrderStatus;
+import com.valderson.shoppingcart.repository.ArchivedOrderRepository;
 import com.valderson.shoppingcart.repository.CartItemRepository;
 import com.valderson.shoppingcart.repository.OrderItemRepository;
 import com.valderson.shoppingcart.repository.OrderRepository;
 import com.valderson.shoppingcart.repository.ProductRepository;
 import com.valderson.shoppingcart.repository.ShoppingCartRepository;
 import com.valderson.shoppingcart.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
+@Timed("shoppingcart.service")
 @RequiredArgsConstructor
 public class OrderService {
 
+    private static final int BULK_BATCH_SIZE = 500;
+
+    private static final Comparator<OrderResponse> HISTORY_ORDER = Comparator
+            .comparing(OrderResponse::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(OrderResponse::getId, Comparator.reverseOrder());
+
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final ShoppingCartRepository cartRepository;
@@ -35,6 +55,10 @@ public class OrderService {
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
     private final CartService cartService;
+    private final InventoryService inventoryService;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final OutboxService outboxService;
+    private final OrderViewService orderViewService;
 
     public OrderResponse createOrder(Long userId) {
         // Buscar usuário
@@ -53,6 +77,11 @@ public class OrderService {
             throw new RuntimeException("Carrinho está vazio");
         }
 
+        // Reservar estoque (ordenado por produto para evitar deadlocks entre checkouts)
+        cartItems.stream()
+                .sorted(Comparator.comparing(item -> item.getProduct().getId()))
+                .forEach(item -> inventoryService.reserve(item.getProduct().getId(), item.getQuantity()));
+
         // Calcular total do pedido
         BigDecimal totalAmount = calculateOrderTotal(cartItems);
 
@@ -75,44 +104,187 @@ public class OrderService {
         // Limpar carrinho após criação do pedido
         cartService.clearCart(userId);
 
-        return mapToOrderResponse(savedOrder, orderItems);
+        OrderResponse response = mapToOrderResponse(savedOrder, orderItems);
+        orderViewService.save(response);
+        outboxService.recordOrderEvent(OrderEventType.ORDER_CREATED, response);
+
+        return response;
     }
 
+    @Transactional(readOnly = true)
     public List<OrderResponse> getUserOrders(Long userId) {
-        // Buscar usuário
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+        // Histórico servido pelo modelo de leitura: uma linha por pedido
+        List<OrderResponse> orders = new ArrayList<>(orderViewService.findUserOrders(userId));
 
-        List<Order> orders = user.getOrders();
+        // Pedidos ainda sem documento (o backfill não passou por eles) vêm das tabelas quentes e do arquivo
+        List<Long> withoutView = orderViewService.findUserOrderIdsWithoutView(userId);
+        if (!withoutView.isEmpty()) {
+            orders.addAll(loadOrders(withoutView));
+        }
 
-        return orders.stream()
-                .map(order -> {
-                    List<OrderItem> items = order.getOrderItems();
-                    return mapToOrderResponse(order, items);
-                })
-                .collect(Collectors.toList());
+        if (orders.isEmpty() && !userRepository.existsById(userId)) {
+            throw new RuntimeException("Usuário não encontrado");
+        }
+
+        orders.sort(HISTORY_ORDER);
+        return orders;
     }
 
-    public OrderResponse cancelOrder(Long userId, Long orderId) {
-        Order order = orderRepository.findById(orderId)
+    /**
+     * Histórico resumido e paginado. Lê apenas as tabelas quentes enquanto a página
+     * couber nelas; o arquivo só é consultado quando o cliente passa dessa janela.
+     */
+    @Transactional(readOnly = true)
+    public List<OrderSummaryResponse> getUserOrderSummaries(Long userId, int page, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("Usuário não encontrado");
+        }
+
+        long offset = (long) page * size;
+        List<OrderSummaryResponse> summaries = new ArrayList<>(
+                orderRepository.findSummariesByUserId(userId, PageRequest.of(page, size)));
+
+        int missing = size - summaries.size();
+        if (missing == 0) {
+            return summaries;
+        }
+
+        // Página incompleta: a janela quente acabou, o restante vem do arquivo
+        long hotCount = summaries.isEmpty() ? orderRepository.countByUserId(userId) : offset + summaries.size();
+        long archiveOffset = Math.max(0, offset - hotCount);
+        summaries.addAll(archivedOrderRepository.findSummariesByUserId(userId, archiveOffset, missing));
+
+        return summaries;
+    }
+
+    @Transactional(readOnly = true)
+    public OrderResponse getUserOrder(Long userId, Long orderId) {
+        Optional<OrderResponse> view = orderViewService.findUserOrder(userId, orderId);
+        if (view.isPresent()) {
+            return view.get();
+        }
+
+        Optional<Order> order = orderRepository.findByIdAndUserIdWithItems(orderId, userId);
+        if (order.isPresent()) {
+            return mapToOrderResponse(order.get(), order.get().getOrderItems());
+        }
+
+        return archivedOrderRepository.findByIdAndUserIdWithItems(orderId, userId)
+                .map(this::mapToOrderResponse)
                 .orElseThrow(() -> new RuntimeException("Pedido não encontrado"));
+    }
 
-        if (!order.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Pedido não pertence ao usuário");
+    public OrderResponse cancelOrder(Long userId, Long orderId) {
+        int updated = orderRepository.transitionStatus(orderId, userId, OrderStatus.PENDING, OrderStatus.CANCELLED);
+        if (updated == 0) {
+            throw cancelFailure(userId, orderId);
         }
 
-        if (order.getStatus() != OrderStatus.PENDING) {
-            throw new RuntimeException("Apenas pedidos pendentes podem ser cancelados");
+        OrderResponse response = cancelledOrderResponse(userId, orderId);
+
+        // Devolver ao estoque as unidades reservadas
+        response.getItems().forEach(item -> inventoryService.release(item.getProductId(), item.getQuantity()));
+
+        outboxService.recordOrderEvent(OrderEventType.ORDER_CANCELLED, response);
+
+        return response;
+    }
+
+    public BulkOrderStatusResponse bulkUpdateStatus(BulkOrderStatusRequest request) {
+        OrderStatus from = request.getFromStatus();
+        OrderStatus to = request.getToStatus();
+
+        if (!from.canTransitionTo(to)) {
+            throw new RuntimeException("Transição de status inválida: " + from + " -> " + to);
+        }
+        if (to == OrderStatus.CANCELLED) {
+            // Cancelamento devolve estoque item a item; use o endpoint de cancelamento
+            throw new RuntimeException("Cancelamento em lote não é suportado");
         }
 
-        order.setStatus(OrderStatus.CANCELLED);
-        Order savedOrder = orderRepository.save(order);
+        List<Long> orderIds = request.getOrderIds().stream().distinct().collect(Collectors.toList());
 
-        List<OrderItem> items = savedOrder.getOrderItems();
-        return mapToOrderResponse(savedOrder, items);
+        int updated = 0;
+        for (int start = 0; start < orderIds.size(); start += BULK_BATCH_SIZE) {
+            List<Long> batch = orderIds.subList(start, Math.min(start + BULK_BATCH_SIZE, orderIds.size()));
+            updated += orderRepository.transitionStatusBulk(batch, from, to);
+            orderViewService.updateStatus(batch, from, to);
+        }
+
+        return BulkOrderStatusResponse.builder()
+                .fromStatus(from)
+                .toStatus(to)
+                .requested(orderIds.size())
+                .updated(updated)
+                .build();
     }
 
-    private BigDecimal calculateOrderTotal(List<CartItem> cartItems) {
+    // Gera documentos de leitura para pedidos que ainda não têm um: primeiro os quentes, depois os arquivados
+    public int backfillOrderViews(int limit) {
+        List<Long> orderIds = new ArrayList<>(orderRepository.findIdsWithoutView(PageRequest.ofSize(limit)));
+        if (orderIds.size() < limit) {
+            orderIds.addAll(archivedOrderRepository.findIdsWithoutView(PageRequest.ofSize(limit - orderIds.size())));
+        }
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+
+        loadOrders(orderIds).forEach(orderViewService::save);
+
+        return orderIds.size();
+    }
+
+    // Monta pedidos pelas entidades, procurando no arquivo os que não estão nas tabelas quentes
+    private List<OrderResponse> loadOrders(List<Long> orderIds) {
+        List<OrderResponse> orders = new ArrayList<>();
+        Set<Long> remaining = new HashSet<>(orderIds);
+
+        for (Order order : orderRepository.findAllByIdWithItems(orderIds)) {
+            orders.add(mapToOrderResponse(order, order.getOrderItems()));
+            remaining.remove(order.getId());
+        }
+        if (!remaining.isEmpty()) {
+            archivedOrderRepository.findAllByIdWithItems(remaining)
+                    .forEach(order -> orders.add(mapToOrderResponse(order)));
+        }
+
+        return orders;
+    }
+
+    // Usa o documento de leitura; pedidos sem documento são montados pelas entidades e ganham um
+    private OrderResponse cancelledOrderResponse(Long userId, Long orderId) {
+        Optional<OrderResponse> view = orderViewService.findUserOrder(userId, orderId);
+        if (view.isPresent()) {
+            orderViewService.updateStatus(List.of(orderId), OrderStatus.PENDING, OrderStatus.CANCELLED);
+            OrderResponse response = view.get();
+            response.setStatus(OrderStatus.CANCELLED);
+            return response;
+        }
+
+        Order order = orderRepository.findByIdAndUserIdWithItems(orderId, userId)
+                .orElseThrow(() -> new RuntimeException("Pedido não encontrado"));
+
+        OrderResponse response = mapToOrderResponse(order, order.getOrderItems());
+        response.setStatus(OrderStatus.CANCELLED);
+        orderViewService.save(response);
+        return response;
+    }
+
+    // Só consulta o pedido para explicar a falha; o caminho de sucesso não passa por aqui
+    private RuntimeException cancelFailure(Long userId, Long orderId) {
+        Order order = orderRepository.findById(orderId).orElse(null);
+
+        if (order == null) {
+            return new RuntimeException("Pedido não encontrado");
+        }
+        if (!order.getUser().getId().equals(userId)) {
+            return new RuntimeException("Pedido não pertence ao usuário");
+        }
+        return new RuntimeException("Apenas pedidos pendentes podem ser cancelados");
+    }
+
+    // Visível no pacote para os benchmarks (src/jmh)
+    static BigDecimal calculateOrderTotal(List<CartItem> cartItems) {
         return cartItems.stream()
                 .map(item -> {
                     Product product = item.getProduct();
@@ -157,4 +329,26 @@ public class OrderService {
                 .createdAt(order.getCreatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    private OrderResponse mapToOrderResponse(ArchivedOrder order) {
+        List<OrderItemResponse> itemResponses = order.getOrderItems().stream()
+                .map(item -> OrderItemResponse.builder()
+                        .id(item.getId())
+                        .productId(item.getProductId())
+                        .productName(item.getProductName())
+                        .productPrice(item.getProductPrice())
+                        .quantity(item.getQuantity())
+                        .subtotal(item.getSubtotal())
+                        .build())
+                .collect(Collectors.toList());
+
+        return OrderResponse.builder()
+                .id(order.getId())
+                .userId(order.getUserId())
+                .items(itemResponses)
+                .totalAmount(order.getTotalAmount())
+                .status(order.getStatus())
+                .createdAt(order.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.valderson.shoppingcart.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Gera o documento de leitura para pedidos criados antes do modelo de leitura existir
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderViewBackfillJob {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final OrderService orderService;
+
+    @Scheduled(initialDelayString = "${orders.view-backfill.initial-delay-ms:30000}",
+            fixedDelayString = "${orders.view-backfill.interval-ms:600000}")
+    public void backfill() {
+        int total = 0;
+        int created;
+        do {
+            created = orderService.backfillOrderViews(CHUNK_SIZE);
+            total += created;
+        } while (created == CHUNK_SIZE);
+
+        if (total > 0) {
+            log.info("Gerados {} documentos de leitura de pedidos", total);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.valderson.shoppingcart.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.valderson.shoppingcart.dto.response.OrderResponse;
+import com.valderson.shoppingcart.entity.OrderView;
+import com.valderson.shoppingcart.enums.OrderStatus;
+import com.valderson.shoppingcart.repository.OrderViewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Modelo de leitura dos pedidos: cada pedido tem um documento JSON gravado no checkout
+ * e atualizado nas mudanças de status. Histórico e detalhe leem uma linha por pedido,
+ * sem montar o grafo de entidades (orders, order_items, products).
+ * O documento continua válido depois que o pedido vai para o arquivo (status final),
+ * então o arquivamento não o remove.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class OrderViewService {
+
+    private final OrderViewRepository orderViewRepository;
+    private final ObjectMapper objectMapper;
+
+    public void save(OrderResponse order) {
+        OrderView view = OrderView.builder()
+                .orderId(order.getId())
+                .userId(order.getUserId())
+                .status(order.getStatus())
+                .createdAt(order.getCreatedAt())
+                .document(toJson(order))
+                .build();
+
+        orderViewRepository.save(view);
+    }
+
+    public int updateStatus(List<Long> orderIds, OrderStatus expectedStatus, OrderStatus newStatus) {
+        return orderViewRepository.updateStatus(orderIds, expectedStatus, newStatus);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderResponse> findUserOrders(Long userId) {
+        return orderViewRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findUserOrderIdsWithoutView(Long userId) {
+        return orderViewRepository.findUserOrderIdsWithoutView(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<OrderResponse> findUserOrder(Long userId, Long orderId) {
+        return orderViewRepository.findByOrderIdAndUserId(orderId, userId)
+                .map(this::toResponse);
+    }
+
+    // O status da coluna prevalece sobre o do documento
+    private OrderResponse toResponse(OrderView view) {
+        try {
+            OrderResponse response = objectMapper.readValue(view.getDocument(), OrderResponse.class);
+            response.setStatus(view.getStatus());
+            return response;
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Erro ao ler documento do pedido " + view.getOrderId(), e);
+        }
+    }
+
+    private String toJson(OrderResponse order) {
+        try {
+            return objectMapper.writeValueAsString(order);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Erro ao serializar pedido " + order.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.valderson.shoppingcart.service;
+
+import com.valderson.shoppingcart.config.AnalyticsConfig;
+import com.valderson.shoppingcart.config.OutboxConfig;
+import com.valderson.shoppingcart.dto.response.OutboxStatsResponse;
+import com.valderson.shoppingcart.entity.OutboxEvent;
+import com.valderson.shoppingcart.enums.OutboxStatus;
+import com.valderson.shoppingcart.event.OrderEventPublisher;
+import com.valderson.shoppingcart.event.OutboxMessage;
+import com.valderson.shoppingcart.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publica os eventos do outbox em lotes.
+ *
+ * Cada lote é reivindicado com FOR UPDATE SKIP LOCKED, então várias instâncias podem
+ * rodar o dispatcher sem entregar o mesmo evento em paralelo. A entrega é "pelo menos uma vez".
+ * Backpressure: o ciclo processa no máximo maxBatchesPerRun lotes e, na primeira falha de
+ * entrega, interrompe o lote atual; os eventos restantes esperam o próximo ciclo.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OrderEventPublisher publisher;
+    private final OutboxConfig outboxConfig;
+    private final AnalyticsConfig analyticsConfig;
+    private final PlatformTransactionManager transactionManager;
+
+    private final AtomicLong publishedTotal = new AtomicLong();
+    private final AtomicLong retriesTotal = new AtomicLong();
+    private final AtomicLong lastPublishLagMs = new AtomicLong();
+    private final AtomicLong maxPublishLagMs = new AtomicLong();
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:1000}")
+    public void dispatchScheduled() {
+        if (outboxConfig.isDispatcherEnabled()) {
+            dispatch();
+        }
+    }
+
+    public int dispatch() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        int published = 0;
+        for (int batch = 0; batch < outboxConfig.getMaxBatchesPerRun(); batch++) {
+            BatchResult result = transaction.execute(status -> dispatchBatch());
+            if (result == null) {
+                break;
+            }
+            published += result.published();
+            if (result.claimed() < outboxConfig.getBatchSize() || result.failed()) {
+                break;
+            }
+        }
+        return published;
+    }
+
+    @Scheduled(cron = "0 0 * * * *")
+    public void purgePublished() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(outboxConfig.getRetentionHours());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                outboxEventRepository.deletePublishedBefore(OutboxStatus.PUBLISHED, cutoff,
+                        analyticsConfig.isRollupEnabled()));
+    }
+
+    @Transactional(readOnly = true)
+    public OutboxStatsResponse getStats() {
+        LocalDateTime oldestPending = outboxEventRepository.findOldestCreatedAt(OutboxStatus.PENDING);
+
+        return OutboxStatsResponse.builder()
+                .pendingEvents(outboxEventRepository.countByStatus(OutboxStatus.PENDING))
+                .failedEvents(outboxEventRepository.countByStatus(OutboxStatus.FAILED))
+                .oldestPendingAgeMs(oldestPending == null ? 0L : ageMs(oldestPending, LocalDateTime.now()))
+                .publishedTotal(publishedTotal.get())
+                .retriesTotal(retriesTotal.get())
+                .lastPublishLagMs(lastPublishLagMs.get())
+                .maxPublishLagMs(maxPublishLagMs.get())
+                .build();
+    }
+
+    private BatchResult dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.claimBatch(now, outboxConfig.getBatchSize());
+
+        int published = 0;
+        for (OutboxEvent event : events) {
+            try {
+                publisher.publish(toMessage(event));
+            } catch (Exception e) {
+                scheduleRetry(event, e);
+                return new BatchResult(events.size(), published, true);
+            }
+            markPublished(event);
+            published++;
+        }
+        return new BatchResult(events.size(), published, false);
+    }
+
+    private void markPublished(final OutboxEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        event.setStatus(OutboxStatus.PUBLISHED);
+        event.setPublishedAt(now);
+
+        long lag = ageMs(event.getCreatedAt(), now);
+        lastPublishLagMs.set(lag);
+        maxPublishLagMs.accumulateAndGet(lag, Math::max);
+        publishedTotal.incrementAndGet();
+    }
+
+    private void scheduleRetry(final OutboxEvent event, final Exception error) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        event.setLastError(truncate(error.getMessage()));
+
+        if (attempts >= outboxConfig.getMaxAttempts()) {
+            event.setStatus(OutboxStatus.FAILED);
+            log.error("Evento {} do outbox falhou {} vezes e foi marcado como FAILED", event.getId(), attempts);
+            return;
+        }
+
+        event.setAvailableAt(LocalDateTime.now().plus(Duration.ofMillis(backoffMs(attempts))));
+        retriesTotal.incrementAndGet();
+        log.warn("Falha ao publicar evento {} (tentativa {}): {}", event.getId(), attempts, error.getMessage());
+    }
+
+    private long backoffMs(final int attempts) {
+        long delay = outboxConfig.getRetryBaseDelayMs() << Math.min(attempts - 1, 20);
+        return Math.min(delay, outboxConfig.getRetryMaxDelayMs());
+    }
+
+    private OutboxMessage toMessage(final OutboxEvent event) {
+        return OutboxMessage.builder()
+                .id(event.getId())
+                .eventType(event.getEventType())
+                .aggregateId(event.getAggregateId())
+                .payload(event.getPayload())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+
+    private static long ageMs(final LocalDateTime from, final LocalDateTime to) {
+        return Math.max(0, Duration.between(from, to).toMillis());
+    }
+
+    private static String truncate(final String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private record BatchResult(int claimed, int published, boolean failed) {
+    }
+}
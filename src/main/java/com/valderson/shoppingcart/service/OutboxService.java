@@ -0,0 +1,56 @@
+package com.valderson.shoppingcart.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.valderson.shoppingcart.dto.response.OrderResponse;
+import com.valderson.shoppingcart.entity.OutboxEvent;
+import com.valderson.shoppingcart.enums.OrderEventType;
+import com.valderson.shoppingcart.event.OrderEvent;
+import com.valderson.shoppingcart.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Grava eventos de pedido no outbox. Exige a transação do pedido para que
+ * evento e pedido sejam confirmados (ou desfeitos) juntos.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public void recordOrderEvent(OrderEventType eventType, OrderResponse order) {
+        LocalDateTime now = LocalDateTime.now();
+
+        OrderEvent event = OrderEvent.builder()
+                .eventType(eventType)
+                .occurredAt(now)
+                .order(order)
+                .build();
+
+        OutboxEvent outboxEvent = OutboxEvent.builder()
+                .aggregateId(order.getId())
+                .eventType(eventType)
+                .payload(toJson(event))
+                .createdAt(now)
+                .availableAt(now)
+                .build();
+
+        outboxEventRepository.save(outboxEvent);
+    }
+
+    private String toJson(OrderEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Erro ao serializar evento do pedido: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.valderson.shoppingcart.service;
+
+import com.valderson.shoppingcart.config.PasswordHashingConfig;
+import com.valderson.shoppingcart.dto.response.PasswordHashingStatsResponse;
+import com.valderson.shoppingcart.exception.ServiceBusyException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executa o BCrypt em um pool próprio e limitado. Picos de login disputam apenas essas
+ * threads (no máximo uma por CPU por padrão) em vez de consumir a CPU de todas as threads
+ * do servidor; com a fila cheia a requisição é rejeitada na hora com ServiceBusyException.
+ * O pool continua em threads de plataforma com threads virtuais habilitadas: o BCrypt ocupa
+ * CPU, e é o tamanho do pool que limita quanto dela os logins podem usar.
+ */
+@Service
+@RequiredArgsConstructor
+public class PasswordHashingService {
+
+    private static final double NANOS_PER_MS = 1_000_000.0;
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingConfig passwordHashingConfig;
+
+    private ThreadPoolExecutor executor;
+
+    private final AtomicLong completedTotal = new AtomicLong();
+    private final AtomicLong rejectedTotal = new AtomicLong();
+    private final AtomicLong rehashedTotal = new AtomicLong();
+    private final AtomicLong hashNanosTotal = new AtomicLong();
+    private final AtomicLong hashNanosMax = new AtomicLong();
+    private final AtomicLong waitNanosTotal = new AtomicLong();
+    private final AtomicLong waitNanosMax = new AtomicLong();
+
+    @PostConstruct
+    void start() {
+        int threads = passwordHashingConfig.resolvedThreads();
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(passwordHashingConfig.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String passwordHash) {
+        return run(() -> passwordEncoder.matches(rawPassword, passwordHash));
+    }
+
+    /**
+     * Indica se o hash foi gerado com um custo menor que o configurado.
+     */
+    public boolean needsRehash(String passwordHash) {
+        return passwordEncoder.upgradeEncoding(passwordHash);
+    }
+
+    public void recordRehash() {
+        rehashedTotal.incrementAndGet();
+    }
+
+    public PasswordHashingStatsResponse getStats() {
+        long completed = completedTotal.get();
+        return PasswordHashingStatsResponse.builder()
+                .strength(passwordHashingConfig.getStrength())
+                .threads(executor.getMaximumPoolSize())
+                .queuedTasks(executor.getQueue().size())
+                .completedTotal(completed)
+                .rejectedTotal(rejectedTotal.get())
+                .rehashedTotal(rehashedTotal.get())
+                .averageHashMs(completed == 0 ? 0.0 : hashNanosTotal.get() / NANOS_PER_MS / completed)
+                .maxHashMs(hashNanosMax.get() / NANOS_PER_MS)
+                .averageQueueWaitMs(completed == 0 ? 0.0 : waitNanosTotal.get() / NANOS_PER_MS / completed)
+                .maxQueueWaitMs(waitNanosMax.get() / NANOS_PER_MS)
+                .build();
+    }
+
+    private <T> T run(Callable<T> hashing) {
+        long submittedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return hashing.call();
+                } finally {
+                    long finishedAt = System.nanoTime();
+                    record(startedAt - submittedAt, finishedAt - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedTotal.incrementAndGet();
+            throw new ServiceBusyException("Servidor ocupado, tente novamente em instantes", e);
+        }
+
+        try {
+            return future.get(passwordHashingConfig.getTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedTotal.incrementAndGet();
+            throw new ServiceBusyException("Tempo de espera esgotado, tente novamente em instantes", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Operação interrompida", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Erro ao processar senha", e.getCause());
+        }
+    }
+
+    private void record(long waitNanos, long hashNanos) {
+        completedTotal.incrementAndGet();
+        waitNanosTotal.addAndGet(waitNanos);
+        waitNanosMax.accumulateAndGet(waitNanos, Math::max);
+        hashNanosTotal.addAndGet(hashNanos);
+        hashNanosMax.accumulateAndGet(hashNanos, Math::max);
+    }
+}
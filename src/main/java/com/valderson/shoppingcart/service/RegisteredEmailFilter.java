@@ -0,0 +1,67 @@
+package com.valderson.shoppingcart.service;
+
+import com.valderson.shoppingcart.config.RegistrationConfig;
+import com.valderson.shoppingcart.repository.UserRepository;
+import com.valderson.shoppingcart.util.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Emails já cadastrados, em um filtro de Bloom. "Não cadastrado" dispensa a consulta de
+ * existência no cadastro; "talvez cadastrado" é confirmado no banco antes de calcular o
+ * hash da senha. Cadastros feitos em outras instâncias não aparecem aqui, mas o índice
+ * único continua barrando duplicados.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RegisteredEmailFilter {
+
+    private final UserRepository userRepository;
+    private final RegistrationConfig registrationConfig;
+    private final PlatformTransactionManager transactionManager;
+
+    // Nulo até a carga inicial terminar: nesse intervalo tudo é "talvez cadastrado"
+    private volatile BloomFilter emails;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        BloomFilter filter = new BloomFilter(
+                registrationConfig.getExpectedUsers(), registrationConfig.getFalsePositiveRate());
+        AtomicLong count = new AtomicLong();
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.executeWithoutResult(status -> {
+            try (Stream<String> normalized = userRepository.streamAllNormalizedEmails()) {
+                normalized.forEach(email -> {
+                    filter.put(email);
+                    count.incrementAndGet();
+                });
+            }
+        });
+
+        emails = filter;
+        log.info("Filtro de emails cadastrados carregado com {} emails", count.get());
+    }
+
+    public boolean mightBeRegistered(String normalizedEmail) {
+        BloomFilter filter = emails;
+        return filter == null || filter.mightContain(normalizedEmail);
+    }
+
+    public void add(String normalizedEmail) {
+        BloomFilter filter = emails;
+        if (filter != null) {
+            filter.put(normalizedEmail);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.valderson.shoppingcart.service;
+
+import com.valderson.shoppingcart.dto.response.BasketStatsResponse;
+import com.valderson.shoppingcart.dto.response.DailyRevenueResponse;
+import com.valderson.shoppingcart.dto.response.TopProductResponse;
+import com.valderson.shoppingcart.entity.DailySales;
+import com.valderson.shoppingcart.repository.DailyProductSalesRepository;
+import com.valderson.shoppingcart.repository.DailySalesRepository;
+import com.valderson.shoppingcart.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Consultas de vendas respondidas pelos agregados diários: o custo depende do número
+ * de dias (e produtos vendidos) no período, não do número de pedidos.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class SalesAnalyticsService {
+
+    private static final int AVERAGE_SCALE = 2;
+
+    private final DailySalesRepository dailySalesRepository;
+    private final DailyProductSalesRepository dailyProductSalesRepository;
+    private final OutboxEventRepository outboxEventRepository;
+
+    public List<DailyRevenueResponse> getDailyRevenue(LocalDate from, LocalDate to) {
+        return dailySalesRepository.findBySalesDateBetweenOrderBySalesDate(from, to).stream()
+                .map(day -> DailyRevenueResponse.builder()
+                        .date(day.getSalesDate())
+                        .orderCount(day.getOrderCount())
+                        .itemCount(day.getItemCount())
+                        .revenue(day.getRevenue())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    public List<TopProductResponse> getTopProducts(LocalDate from, LocalDate to, int limit) {
+        return dailyProductSalesRepository.findTopProducts(from, to, PageRequest.ofSize(limit));
+    }
+
+    public BasketStatsResponse getBasketStats(LocalDate from, LocalDate to) {
+        List<DailySales> days = dailySalesRepository.findBySalesDateBetweenOrderBySalesDate(from, to);
+
+        long orders = days.stream().mapToLong(DailySales::getOrderCount).sum();
+        long items = days.stream().mapToLong(DailySales::getItemCount).sum();
+        BigDecimal revenue = days.stream().map(DailySales::getRevenue).reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return BasketStatsResponse.builder()
+                .from(from)
+                .to(to)
+                .orderCount(orders)
+                .averageItems(average(BigDecimal.valueOf(items), orders))
+                .averageRevenue(average(revenue, orders))
+                .build();
+    }
+
+    /**
+     * Recalcula os agregados do período a partir dos pedidos. Roda em REPEATABLE READ:
+     * eventos de pedidos vistos pelo recálculo são marcados como consumidos, e pedidos
+     * confirmados depois do snapshot continuam pendentes para o job incremental.
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public int backfill(LocalDate from, LocalDate to) {
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        outboxEventRepository.markRolledUpForOrdersCreatedBetween(start, end);
+
+        dailySalesRepository.deleteBetween(from, to);
+        dailyProductSalesRepository.deleteBetween(from, to);
+
+        dailyProductSalesRepository.rebuildBetween(start, end);
+        return dailySalesRepository.rebuildBetween(start, end);
+    }
+
+    private static BigDecimal average(BigDecimal total, long count) {
+        if (count == 0) {
+            return BigDecimal.ZERO;
+        }
+        return total.divide(BigDecimal.valueOf(count), AVERAGE_SCALE, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,167 @@
+package com.valderson.shoppingcart.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.valderson.shoppingcart.config.AnalyticsConfig;
+import com.valderson.shoppingcart.dto.response.OrderItemResponse;
+import com.valderson.shoppingcart.dto.response.OrderResponse;
+import com.valderson.shoppingcart.entity.DailyProductSales;
+import com.valderson.shoppingcart.entity.DailyProductSalesId;
+import com.valderson.shoppingcart.entity.DailySales;
+import com.valderson.shoppingcart.entity.OutboxEvent;
+import com.valderson.shoppingcart.enums.OrderEventType;
+import com.valderson.shoppingcart.event.OrderEvent;
+import com.valderson.shoppingcart.repository.DailyProductSalesRepository;
+import com.valderson.shoppingcart.repository.DailySalesRepository;
+import com.valderson.shoppingcart.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mantém os agregados diários de vendas em micro-lotes, consumindo os eventos de pedido
+ * do outbox como feed de mudanças. O checkout não escreve nos agregados, então não há
+ * disputa por linhas "quentes" (o mesmo dia/produto) na transação do pedido.
+ * Os eventos do lote são somados em memória e aplicados uma vez por chave, com incremento
+ * atômico no banco (instâncias concorrentes somam sobre a mesma linha); a marcação
+ * rolled_up acontece na mesma transação, então cada evento é contado exatamente uma vez.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SalesRollupService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final DailySalesRepository dailySalesRepository;
+    private final DailyProductSalesRepository dailyProductSalesRepository;
+    private final AnalyticsConfig analyticsConfig;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Scheduled(fixedDelayString = "${analytics.rollup-interval-ms:5000}")
+    public void rollupScheduled() {
+        if (analyticsConfig.isRollupEnabled()) {
+            rollup();
+        }
+    }
+
+    public int rollup() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        int total = 0;
+        int consumed;
+        do {
+            Integer result = transaction.execute(status -> rollupBatch());
+            consumed = result == null ? 0 : result;
+            total += consumed;
+        } while (consumed == analyticsConfig.getRollupBatchSize());
+        return total;
+    }
+
+    private int rollupBatch() {
+        List<OutboxEvent> events = outboxEventRepository.claimForRollup(analyticsConfig.getRollupBatchSize());
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Map<LocalDate, DailySales> days = new HashMap<>();
+        Map<DailyProductSalesId, DailyProductSales> products = new HashMap<>();
+
+        for (OutboxEvent event : events) {
+            OrderEvent orderEvent = readEvent(event);
+            int sign = orderEvent.getEventType() == OrderEventType.ORDER_CANCELLED ? -1 : 1;
+            accumulate(orderEvent.getOrder(), sign, days, products);
+        }
+
+        days.values().forEach(this::applyDailySales);
+        products.values().forEach(this::applyProductSales);
+
+        outboxEventRepository.markRolledUp(events.stream().map(OutboxEvent::getId).toList());
+        return events.size();
+    }
+
+    private void accumulate(OrderResponse order,
+                            int sign,
+                            Map<LocalDate, DailySales> days,
+                            Map<DailyProductSalesId, DailyProductSales> products) {
+        LocalDate date = order.getCreatedAt().toLocalDate();
+        BigDecimal signed = BigDecimal.valueOf(sign);
+
+        DailySales day = days.computeIfAbsent(date, d -> DailySales.builder().salesDate(d).build());
+        day.setOrderCount(day.getOrderCount() + sign);
+        day.setRevenue(day.getRevenue().add(order.getTotalAmount().multiply(signed)));
+
+        for (OrderItemResponse item : order.getItems()) {
+            day.setItemCount(day.getItemCount() + (long) sign * item.getQuantity());
+
+            DailyProductSales product = products.computeIfAbsent(
+                    new DailyProductSalesId(date, item.getProductId()),
+                    id -> DailyProductSales.builder()
+                            .salesDate(date)
+                            .productId(item.getProductId())
+                            .productName(item.getProductName())
+                            .build());
+            product.setQuantity(product.getQuantity() + (long) sign * item.getQuantity());
+            product.setRevenue(product.getRevenue().add(item.getSubtotal().multiply(signed)));
+        }
+    }
+
+    private void applyDailySales(DailySales delta) {
+        LocalDate date = delta.getSalesDate();
+        if (addToDay(delta) == 0) {
+            createRow(() -> dailySalesRepository.insertEmptyDay(date));
+            addToDay(delta);
+        }
+    }
+
+    private int addToDay(DailySales delta) {
+        return dailySalesRepository.addToDay(delta.getSalesDate(),
+                delta.getOrderCount(), delta.getItemCount(), delta.getRevenue());
+    }
+
+    private void applyProductSales(DailyProductSales delta) {
+        if (addToProduct(delta) == 0) {
+            createRow(() -> dailyProductSalesRepository.insertEmptyProduct(
+                    delta.getSalesDate(), delta.getProductId(), delta.getProductName()));
+            addToProduct(delta);
+        }
+    }
+
+    private int addToProduct(DailyProductSales delta) {
+        return dailyProductSalesRepository.addToProduct(delta.getSalesDate(), delta.getProductId(),
+                delta.getQuantity(), delta.getRevenue());
+    }
+
+    /**
+     * Cria a linha zerada em transação própria: se outra instância criar a mesma chave ao mesmo
+     * tempo, a chave duplicada não invalida a transação do lote e o incremento segue sobre a linha dela.
+     */
+    private void createRow(Runnable insert) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            transaction.executeWithoutResult(status -> insert.run());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Linha de agregado criada por outra instância: {}", e.getMessage());
+        }
+    }
+
+    private OrderEvent readEvent(OutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), OrderEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Evento " + event.getId() + " do outbox ilegível", e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.valderson.shoppingcart.service;
+
+import com.valderson.shoppingcart.config.TokenRevocationConfig;
+import com.valderson.shoppingcart.entity.RevokedToken;
+import com.valderson.shoppingcart.repository.RevokedTokenRepository;
+import com.valderson.shoppingcart.security.JwtPrincipal;
+import com.valderson.shoppingcart.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Revogação de JWT por jti. A verificação de cada requisição consulta apenas um filtro
+ * de Bloom em memória; o banco só é lido quando o filtro indica uma possível revogação.
+ * O filtro é sincronizado periodicamente com revogações de outras instâncias e
+ * reconstruído de tempos em tempos, descartando tokens que já expiraram.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationConfig tokenRevocationConfig;
+
+    private volatile BloomFilter revokedJtis;
+    private volatile LocalDateTime lastRefresh;
+
+    @PostConstruct
+    void init() {
+        rebuild();
+    }
+
+    public void revoke(JwtPrincipal principal) {
+        if (principal.getJti() == null) {
+            return;
+        }
+
+        if (!revokedTokenRepository.existsById(principal.getJti())) {
+            try {
+                revokedTokenRepository.save(RevokedToken.builder()
+                        .jti(principal.getJti())
+                        .userId(principal.getUserId())
+                        .expiresAt(LocalDateTime.ofInstant(
+                                Instant.ofEpochMilli(principal.getExpiresAtMillis()), ZoneId.systemDefault()))
+                        .revokedAt(LocalDateTime.now())
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                // Logout concorrente com o mesmo token (duas abas, retry do cliente): já está revogado
+                log.debug("Token {} revogado por outra requisição: {}", principal.getJti(), e.getMessage());
+            }
+        }
+        revokedJtis.put(principal.getJti());
+    }
+
+    public boolean isRevoked(JwtPrincipal principal) {
+        String jti = principal.getJti();
+        if (jti == null || !revokedJtis.mightContain(jti)) {
+            return false;
+        }
+        return revokedTokenRepository.existsById(jti);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval-ms:5000}",
+            initialDelayString = "${jwt.revocation.refresh-interval-ms:5000}")
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastRefresh.minusNanos(tokenRevocationConfig.getRefreshOverlapMs() * 1_000_000L);
+
+        BloomFilter filter = revokedJtis;
+        revokedTokenRepository.findJtisRevokedSince(since, now).forEach(filter::put);
+        lastRefresh = now;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval-ms:3600000}",
+            initialDelayString = "${jwt.revocation.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        int expired = revokedTokenRepository.deleteExpired(now);
+
+        List<String> active = revokedTokenRepository.findActiveJtis(now);
+        BloomFilter filter = new BloomFilter(
+                Math.max(tokenRevocationConfig.getExpectedRevocations(), active.size() * 2L),
+                tokenRevocationConfig.getFalsePositiveRate());
+        active.forEach(filter::put);
+
+        revokedJtis = filter;
+        lastRefresh = now;
+        // Revogações confirmadas durante a reconstrução entraram só no filtro antigo
+        refresh();
+
+        log.info("Filtro de tokens revogados reconstruído: {} ativos, {} expirados removidos", active.size(), expired);
+    }
+}
@@ -0,0 +1,154 @@
+package com.valderson.shoppingcart.service;
+
+import com.valderson.shoppingcart.config.VirtualThreadsConfig;
+import com.valderson.shoppingcart.dto.response.PinnedHotSpotResponse;
+import com.valderson.shoppingcart.dto.response.VirtualThreadPinningStatsResponse;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registra, via JFR (evento jdk.VirtualThreadPinned), as threads virtuais que bloquearam
+ * presas à thread portadora, em geral por I/O dentro de um bloco synchronized. Os eventos
+ * são agrupados pelo primeiro frame da aplicação na pilha (ou o do topo, se não houver),
+ * e cada local novo gera um aviso no log com a pilha resumida.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.valderson.";
+    private static final int LOGGED_FRAMES = 8;
+    private static final double NANOS_PER_MS = 1_000_000.0;
+
+    private final VirtualThreadsConfig virtualThreadsConfig;
+    private final Environment environment;
+
+    private final Map<String, HotSpot> hotSpots = new ConcurrentHashMap<>();
+    private final AtomicLong pinnedTotal = new AtomicLong();
+
+    private volatile RecordingStream stream;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!Threading.VIRTUAL.isActive(environment) || !virtualThreadsConfig.isPinningMonitorEnabled()) {
+            return;
+        }
+
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(virtualThreadsConfig.getPinningThresholdMs()))
+                .withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::record);
+        recording.startAsync();
+        stream = recording;
+        log.info("Monitor de pinning de threads virtuais ativo (limite de {} ms)",
+                virtualThreadsConfig.getPinningThresholdMs());
+    }
+
+    @PreDestroy
+    void stop() {
+        RecordingStream recording = stream;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    public VirtualThreadPinningStatsResponse getStats() {
+        List<PinnedHotSpotResponse> spots = hotSpots.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, HotSpot> e) -> e.getValue().nanosTotal.get())
+                        .reversed())
+                .map(e -> PinnedHotSpotResponse.builder()
+                        .frame(e.getKey())
+                        .count(e.getValue().count.get())
+                        .totalMs(e.getValue().nanosTotal.get() / NANOS_PER_MS)
+                        .maxMs(e.getValue().nanosMax.get() / NANOS_PER_MS)
+                        .build())
+                .toList();
+
+        return VirtualThreadPinningStatsResponse.builder()
+                .virtualThreadsEnabled(Threading.VIRTUAL.isActive(environment))
+                .monitoring(stream != null)
+                .thresholdMs(virtualThreadsConfig.getPinningThresholdMs())
+                .pinnedTotal(pinnedTotal.get())
+                .hotSpots(spots)
+                .build();
+    }
+
+    private void record(final RecordedEvent event) {
+        pinnedTotal.incrementAndGet();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        String frame = hotSpotFrame(stackTrace);
+
+        HotSpot hotSpot = hotSpots.get(frame);
+        if (hotSpot == null) {
+            if (hotSpots.size() >= virtualThreadsConfig.getMaxHotSpots()) {
+                return;
+            }
+            hotSpot = hotSpots.computeIfAbsent(frame, key -> new HotSpot());
+            if (hotSpot.count.get() == 0) {
+                log.warn("Thread virtual presa à portadora por {} ms em {}:\n{}",
+                        event.getDuration().toMillis(), frame, describe(stackTrace));
+            }
+        }
+
+        long nanos = event.getDuration().toNanos();
+        hotSpot.count.incrementAndGet();
+        hotSpot.nanosTotal.addAndGet(nanos);
+        hotSpot.nanosMax.accumulateAndGet(nanos, Math::max);
+    }
+
+    private static String hotSpotFrame(final RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "desconhecido";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APP_PACKAGE)) {
+                return format(frame);
+            }
+        }
+        return format(frames.get(0));
+    }
+
+    private static String describe(final RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "    (sem pilha)";
+        }
+        StringBuilder description = new StringBuilder();
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (int i = 0; i < Math.min(LOGGED_FRAMES, frames.size()); i++) {
+            description.append("    at ").append(format(frames.get(i))).append('\n');
+        }
+        return description.toString();
+    }
+
+    private static String format(final RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    private static final class HotSpot {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong nanosTotal = new AtomicLong();
+        private final AtomicLong nanosMax = new AtomicLong();
+    }
+}
@@ -0,0 +1,14 @@
+package com.valderson.shoppingcart.util;
+
+import java.util.Locale;
+
+public final class EmailUtil {
+
+    private EmailUtil() {
+    }
+
+    // Forma usada na unicidade e nas buscas: "Ana@Mail.com " e "ana@mail.com" são o mesmo usuário
+    public static String normalize(final String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
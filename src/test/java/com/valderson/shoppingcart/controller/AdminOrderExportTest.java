@@ -0,0 +1,158 @@
+package com.valderson.shoppingcart.controller;
+
+import com.valderson.shoppingcart.config.OrderExportConfig;
+import com.valderson.shoppingcart.dto.request.AddToCartRequest;
+import com.valderson.shoppingcart.dto.response.OrderResponse;
+import com.valderson.shoppingcart.dto.response.UserResponse;
+import com.valderson.shoppingcart.entity.Product;
+import com.valderson.shoppingcart.entity.ProductInventory;
+import com.valderson.shoppingcart.entity.User;
+import com.valderson.shoppingcart.repository.ProductInventoryRepository;
+import com.valderson.shoppingcart.repository.ProductRepository;
+import com.valderson.shoppingcart.repository.UserRepository;
+import com.valderson.shoppingcart.security.JwtTokenProvider;
+import com.valderson.shoppingcart.service.CartService;
+import com.valderson.shoppingcart.service.OrderService;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Exportação de pedidos pela rota de admin: o corpo é escrito em streaming (despacho
+ * assíncrono com timeout próprio, que também passa pela cadeia de segurança), as faixas
+ * paralelas saem na ordem e o período é validado antes.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "rate-limit.enabled=false")
+class AdminOrderExportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductInventoryRepository productInventoryRepository;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderExportConfig orderExportConfig;
+
+    @Test
+    void exportStreamsOrdersAsCsv() throws Exception {
+        OrderResponse order = placeOrder("export@test.com");
+        LocalDate today = LocalDate.now();
+
+        MvcResult started = mockMvc.perform(get("/api/admin/orders/export")
+                        .param("from", today.toString())
+                        .param("to", today.toString())
+                        .cookie(adminCookie()))
+                .andReturn();
+        MockHttpServletResponse response = mockMvc.perform(asyncDispatch(started)).andReturn().getResponse();
+
+        assertEquals(orderExportConfig.getTimeoutMs(), started.getRequest().getAsyncContext().getTimeout());
+        assertEquals(200, response.getStatus());
+        assertEquals("text/csv", response.getContentType());
+        String csv = response.getContentAsString();
+        assertTrue(csv.startsWith("order_id,user_id,status,"), csv);
+        assertTrue(csv.contains("\n" + order.getId() + "," + order.getUserId() + ",PENDING,"), csv);
+    }
+
+    @Test
+    void parallelExportReadsRangesOnSharedPool() throws Exception {
+        OrderResponse order = placeOrder("export-parallel@test.com");
+        LocalDate today = LocalDate.now();
+
+        int parallelism = orderExportConfig.getParallelism();
+        orderExportConfig.setParallelism(2);
+        MockHttpServletResponse response;
+        try {
+            MvcResult started = mockMvc.perform(get("/api/admin/orders/export")
+                            .param("from", today.minusDays(1).toString())
+                            .param("to", today.toString())
+                            .cookie(adminCookie()))
+                    .andReturn();
+            response = mockMvc.perform(asyncDispatch(started)).andReturn().getResponse();
+        } finally {
+            orderExportConfig.setParallelism(parallelism);
+        }
+
+        assertEquals(200, response.getStatus());
+        String csv = response.getContentAsString();
+        assertEquals(1, csv.split("order_id,user_id", -1).length - 1, "um cabeçalho para as duas faixas");
+        assertTrue(csv.contains("\n" + order.getId() + "," + order.getUserId() + ",PENDING,"), csv);
+    }
+
+    @Test
+    void invalidPeriodIsRejected() throws Exception {
+        LocalDate today = LocalDate.now();
+
+        MvcResult started = mockMvc.perform(get("/api/admin/orders/export")
+                        .param("from", today.toString())
+                        .param("to", today.minusDays(1).toString())
+                        .cookie(adminCookie()))
+                .andReturn();
+        MockHttpServletResponse response = mockMvc.perform(asyncDispatch(started)).andReturn().getResponse();
+
+        assertEquals(400, response.getStatus());
+        assertEquals("Período inválido para exportação", response.getContentAsString());
+    }
+
+    private OrderResponse placeOrder(final String email) {
+        User user = userRepository.save(User.builder()
+                .name("Usuário exportação")
+                .email(email)
+                .passwordHash("hash")
+                .build());
+        Product product = productRepository.save(Product.builder()
+                .name("Produto exportação")
+                .price(new BigDecimal("12.50"))
+                .build());
+        productInventoryRepository.save(ProductInventory.builder()
+                .productId(product.getId())
+                .stock(100)
+                .build());
+        cartService.addItemToCart(user.getId(), AddToCartRequest.builder()
+                .productId(product.getId())
+                .quantity(2)
+                .build());
+        return orderService.createOrder(user.getId());
+    }
+
+    private Cookie adminCookie() {
+        return new Cookie("authToken", jwtTokenProvider.generateToken(UserResponse.builder()
+                .id(1L)
+                .name("Admin")
+                .email("admin@admin.com")
+                .build()));
+    }
+}
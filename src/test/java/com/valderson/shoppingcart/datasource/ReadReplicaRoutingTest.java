@@ -0,0 +1,125 @@
+package com.valderson.shoppingcart.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Roteamento entre dois bancos H2 em memória: o primário do perfil de teste e uma réplica
+ * que recebe uma cópia do esquema do primário. O nome do banco que atende cada transação
+ * identifica a rota escolhida.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "datasource.replica.username=sa",
+        "datasource.replica.password="
+})
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replicadb;DB_CLOSE_DELAY=-1";
+
+    private static final Long USER_ID = 42L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaStickiness replicaStickiness;
+
+    @Autowired
+    private ReadYourWritesInterceptor readYourWritesInterceptor;
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readWriteTransactionsUsePrimary() {
+        assertEquals("TESTDB", databaseIn(false));
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        assertEquals("REPLICADB", databaseIn(true));
+    }
+
+    @Test
+    void readOnlyTransactionsStayOnPrimaryAfterOwnWrite() {
+        authenticate(USER_ID);
+        assertEquals("REPLICADB", databaseIn(true));
+
+        replicaStickiness.markWrite(USER_ID);
+        assertEquals("TESTDB", databaseIn(true));
+
+        authenticate(USER_ID + 1);
+        assertEquals("REPLICADB", databaseIn(true));
+    }
+
+    @Test
+    void writeRequestOpensWindowBeforeHandlerRuns() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/orders/" + (USER_ID + 2));
+        request.setAttribute("userId", USER_ID + 2);
+
+        // A resposta pode ser enviada antes do afterCompletion: a janela já vale a partir do preHandle
+        readYourWritesInterceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+
+        authenticate(USER_ID + 2);
+        assertEquals("TESTDB", databaseIn(true));
+    }
+
+    private String databaseIn(final boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    @TestConfiguration
+    static class ReplicaSchemaConfig {
+
+        /**
+         * Copia o esquema criado pelo Hibernate no primário para a réplica antes das cargas
+         * iniciais da aplicação, que já leem pela réplica.
+         */
+        @Bean
+        InitializingBean replicaSchema(final EntityManagerFactory entityManagerFactory,
+                                       final HikariDataSource primaryDataSource) {
+            return () -> {
+                JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+                JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+                primary.queryForList("SCRIPT NODATA", String.class).forEach(replica::execute);
+            };
+        }
+    }
+
+    private static void authenticate(final Long userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+    }
+}
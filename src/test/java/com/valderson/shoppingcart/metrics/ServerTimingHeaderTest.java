@@ -0,0 +1,99 @@
+package com.valderson.shoppingcart.metrics;
+
+import com.valderson.shoppingcart.dto.response.UserResponse;
+import com.valderson.shoppingcart.entity.User;
+import com.valderson.shoppingcart.repository.UserRepository;
+import com.valderson.shoppingcart.security.JwtTokenProvider;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Server-Timing (ligado no perfil de teste) em respostas JSON, sem corpo (erro da cadeia de
+ * segurança) e em streaming (StreamingResponseBody, escrito fora da thread da requisição).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "rate-limit.enabled=false")
+class ServerTimingHeaderTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    void jsonResponseCarriesServerTiming() throws Exception {
+        User user = userRepository.save(User.builder()
+                .name("Usuário timing")
+                .email("server-timing@test.com")
+                .passwordHash("hash")
+                .build());
+
+        MockHttpServletResponse response = mockMvc.perform(get("/api/cart/" + user.getId())
+                        .cookie(authCookie(user.getId(), user.getEmail())))
+                .andReturn()
+                .getResponse();
+
+        assertEquals(200, response.getStatus());
+        assertServerTiming(response);
+    }
+
+    @Test
+    void responseWithoutBodyCarriesServerTiming() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/cart/1")).andReturn().getResponse();
+
+        assertEquals(403, response.getStatus());
+        assertServerTiming(response);
+    }
+
+    @Test
+    void streamingResponseCarriesServerTiming() throws Exception {
+        LocalDate today = LocalDate.now();
+        MvcResult started = mockMvc.perform(get("/api/admin/orders/export")
+                        .param("from", today.minusDays(1).toString())
+                        .param("to", today.toString())
+                        .cookie(authCookie(1L, "admin@admin.com")))
+                .andReturn();
+
+        MockHttpServletResponse response = mockMvc.perform(asyncDispatch(started)).andReturn().getResponse();
+
+        assertEquals(200, response.getStatus());
+        assertServerTiming(response);
+    }
+
+    private static void assertServerTiming(final MockHttpServletResponse response) {
+        String serverTiming = response.getHeader(RequestDbTimings.SERVER_TIMING_HEADER);
+        assertNotNull(serverTiming, "resposta sem Server-Timing");
+        assertTrue(serverTiming.startsWith("db;dur="), serverTiming);
+        assertTrue(serverTiming.contains(", app;dur="), serverTiming);
+    }
+
+    private Cookie authCookie(final Long userId, final String email) {
+        return new Cookie("authToken", jwtTokenProvider.generateToken(UserResponse.builder()
+                .id(userId)
+                .name("Usuário timing")
+                .email(email)
+                .build()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.valderson.shoppingcart.nativeimage;
+
+import com.valderson.shoppingcart.config.NativeRuntimeHints;
+import com.valderson.shoppingcart.dto.response.CartResponse;
+import com.valderson.shoppingcart.dto.response.OrderResponse;
+import com.valderson.shoppingcart.entity.CartItem;
+import com.valderson.shoppingcart.entity.DailyProductSalesId;
+import com.valderson.shoppingcart.event.OrderEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica na JVM os hints que a imagem nativa recebe; o build nativo só acusa a falta
+ * de um deles quando o caminho é executado.
+ */
+class NativeRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void registerHints() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void entitiesAreReflectivelyAccessible() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(CartItem.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(DailyProductSalesId.class).test(hints));
+    }
+
+    @Test
+    void jsonTypesAreBound() throws NoSuchMethodException {
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(CartResponse.class.getMethod("getItems"))
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(OrderEvent.class.getMethod("setOrder",
+                OrderResponse.class)).test(hints));
+    }
+
+    @Test
+    void jjwtServicesAndSerializerAreRegistered() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.jackson.io.JacksonSerializer"))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/io.jsonwebtoken.io.Serializer").test(hints));
+    }
+
+    @Test
+    void liquibaseChangelogAndChangesAreRegistered() {
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("db/changelog/db.changelog-master.xml").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("www.liquibase.org/xml/ns/dbchangelog/dbchangelog-latest.xsd").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("liquibase.change.core.CreateTableChange"))
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS)
+                .test(hints));
+    }
+}
@@ -0,0 +1,105 @@
+package com.valderson.shoppingcart.nativeimage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.valderson.shoppingcart.entity.Product;
+import com.valderson.shoppingcart.entity.ProductInventory;
+import com.valderson.shoppingcart.repository.ProductInventoryRepository;
+import com.valderson.shoppingcart.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Jornada completa por HTTP no perfil de teste (H2): Liquibase, JWT, Jackson nos DTOs,
+ * associações LAZY e outbox. Roda na JVM no build normal e como executável nativo com
+ * ./mvnw -Pnative,nativeTest test -Dtest=NativeSmokeTest, onde falta de hint vira erro aqui.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = "rate-limit.enabled=false")
+class NativeSmokeTest {
+
+    private static final String AUTH_COOKIE = "authToken=";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductInventoryRepository productInventoryRepository;
+
+    @Test
+    void registerBrowseAndCheckout() {
+        RestClient client = RestClient.create("http://localhost:" + port);
+
+        JsonNode health = client.get().uri("/actuator/health").retrieve().body(JsonNode.class);
+        assertEquals("UP", health.get("status").asText());
+
+        Product product = productRepository.save(Product.builder()
+                .name("Produto nativo")
+                .price(new BigDecimal("25.00"))
+                .build());
+        productInventoryRepository.save(ProductInventory.builder()
+                .productId(product.getId())
+                .stock(100)
+                .build());
+
+        ResponseEntity<JsonNode> registered = client.post().uri("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("name", "Usuário nativo", "email", "native@example.com", "password", "native-password"))
+                .retrieve()
+                .toEntity(JsonNode.class);
+        long userId = registered.getBody().get("id").asLong();
+        String cookie = authCookie(registered);
+
+        JsonNode me = client.get().uri("/api/auth/me").header(HttpHeaders.COOKIE, cookie)
+                .retrieve().body(JsonNode.class);
+        assertEquals("native@example.com", me.get("email").asText());
+
+        JsonNode catalog = client.get().uri("/api/products").header(HttpHeaders.COOKIE, cookie)
+                .retrieve().body(JsonNode.class);
+        assertTrue(catalog.size() > 0);
+
+        client.post().uri("/api/cart/{userId}/items", userId).header(HttpHeaders.COOKIE, cookie)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("productId", product.getId(), "quantity", 2))
+                .retrieve()
+                .toBodilessEntity();
+
+        JsonNode order = client.post().uri("/api/orders/{userId}", userId).header(HttpHeaders.COOKIE, cookie)
+                .retrieve().body(JsonNode.class);
+        assertEquals(0, new BigDecimal("50.00").compareTo(order.get("totalAmount").decimalValue()));
+
+        JsonNode detail = client.get().uri("/api/orders/{userId}/{orderId}", userId, order.get("id").asLong())
+                .header(HttpHeaders.COOKIE, cookie)
+                .retrieve().body(JsonNode.class);
+        assertEquals("Produto nativo", detail.get("items").get(0).get("productName").asText());
+    }
+
+    // O cookie é Secure; repassado à mão porque o teste fala http://localhost
+    private static String authCookie(final ResponseEntity<?> response) {
+        for (String header : response.getHeaders().getOrEmpty(HttpHeaders.SET_COOKIE)) {
+            if (header.startsWith(AUTH_COOKIE)) {
+                int end = header.indexOf(';');
+                return end < 0 ? header : header.substring(0, end);
+            }
+        }
+        return fail("Cadastro sem cookie de autenticação");
+    }
+}
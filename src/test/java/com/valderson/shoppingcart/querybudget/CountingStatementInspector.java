@@ -0,0 +1,35 @@
+package com.valderson.shoppingcart.querybudget;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Conta os comandos SQL preparados pelo Hibernate na thread atual. Com MockMvc a
+ * requisição roda na thread do teste, então jobs agendados não entram na contagem.
+ */
+public class CountingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<Counter> COUNTER = new ThreadLocal<>();
+
+    @Override
+    public String inspect(final String sql) {
+        Counter counter = COUNTER.get();
+        if (counter != null) {
+            counter.statements++;
+        }
+        return sql;
+    }
+
+    public static void start() {
+        COUNTER.set(new Counter());
+    }
+
+    public static int stop() {
+        Counter counter = COUNTER.get();
+        COUNTER.remove();
+        return counter == null ? 0 : counter.statements;
+    }
+
+    private static final class Counter {
+        private int statements;
+    }
+}
@@ -0,0 +1,198 @@
+package com.valderson.shoppingcart.querybudget;
+
+import com.valderson.shoppingcart.dto.request.AddToCartRequest;
+import com.valderson.shoppingcart.dto.response.OrderResponse;
+import com.valderson.shoppingcart.dto.response.UserResponse;
+import com.valderson.shoppingcart.entity.Product;
+import com.valderson.shoppingcart.entity.ProductInventory;
+import com.valderson.shoppingcart.entity.User;
+import com.valderson.shoppingcart.repository.ProductInventoryRepository;
+import com.valderson.shoppingcart.repository.ProductRepository;
+import com.valderson.shoppingcart.repository.UserRepository;
+import com.valderson.shoppingcart.security.JwtTokenProvider;
+import com.valderson.shoppingcart.service.CartService;
+import com.valderson.shoppingcart.service.OrderService;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Orçamento de comandos SQL por endpoint. Cada endpoint é chamado para usuários com
+ * carrinhos e históricos de tamanhos crescentes: a contagem não pode passar do orçamento
+ * nem crescer com o tamanho (um N+1 faz as duas coisas). Novos endpoints entram aqui
+ * com um método que declara o orçamento.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.valderson.shoppingcart.querybudget.CountingStatementInspector",
+        "rate-limit.enabled=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointQueryBudgetTest {
+
+    private static final int[] SIZES = {1, 10, 50};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductInventoryRepository productInventoryRepository;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private final List<Fixture> fixtures = new ArrayList<>();
+
+    @BeforeAll
+    void createFixtures() {
+        int maxSize = SIZES[SIZES.length - 1];
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < maxSize; i++) {
+            Product product = productRepository.save(Product.builder()
+                    .name("Produto " + i)
+                    .price(new BigDecimal("10.00"))
+                    .build());
+            productInventoryRepository.save(ProductInventory.builder()
+                    .productId(product.getId())
+                    .stock(10000)
+                    .build());
+            products.add(product);
+        }
+
+        for (int size : SIZES) {
+            fixtures.add(createFixture(size, products));
+        }
+    }
+
+    @Test
+    void getCart() throws Exception {
+        assertBudget("GET /api/cart/{userId}", 4,
+                fixture -> get("/api/cart/" + fixture.userId()));
+    }
+
+    @Test
+    void getCartTotal() throws Exception {
+        assertBudget("GET /api/cart/{userId}/total", 4,
+                fixture -> get("/api/cart/" + fixture.userId() + "/total"));
+    }
+
+    @Test
+    void getOrderHistory() throws Exception {
+        assertBudget("GET /api/orders/{userId}", 2,
+                fixture -> get("/api/orders/" + fixture.userId()));
+    }
+
+    @Test
+    void getOrderSummaries() throws Exception {
+        assertBudget("GET /api/orders/{userId}/summary", 3,
+                fixture -> get("/api/orders/" + fixture.userId() + "/summary"));
+    }
+
+    @Test
+    void getOrderDetail() throws Exception {
+        assertBudget("GET /api/orders/{userId}/{orderId}", 1,
+                fixture -> get("/api/orders/" + fixture.userId() + "/" + fixture.lastOrderId()));
+    }
+
+    private void assertBudget(final String endpoint,
+                              final int budget,
+                              final Function<Fixture, MockHttpServletRequestBuilder> request) throws Exception {
+        Map<Integer, Integer> statementsBySize = new LinkedHashMap<>();
+
+        for (Fixture fixture : fixtures) {
+            MockHttpServletRequestBuilder builder = request.apply(fixture).cookie(fixture.authCookie());
+
+            CountingStatementInspector.start();
+            int status;
+            try {
+                status = mockMvc.perform(builder).andReturn().getResponse().getStatus();
+            } finally {
+                statementsBySize.put(fixture.size(), CountingStatementInspector.stop());
+            }
+            assertEquals(200, status, endpoint + " falhou para tamanho " + fixture.size());
+        }
+
+        int smallest = statementsBySize.values().iterator().next();
+        for (Map.Entry<Integer, Integer> entry : statementsBySize.entrySet()) {
+            assertTrue(entry.getValue() <= budget, endpoint + " executou " + entry.getValue()
+                    + " comandos SQL (orçamento " + budget + ") com tamanho " + entry.getKey()
+                    + ": " + statementsBySize);
+            assertTrue(entry.getValue() <= smallest, endpoint
+                    + " cresce com o tamanho dos dados (possível N+1): " + statementsBySize);
+        }
+    }
+
+    private Fixture createFixture(final int size, final List<Product> products) {
+        User user = userRepository.save(User.builder()
+                .name("Usuário " + size)
+                .email("budget" + size + "@test.com")
+                .passwordHash("hash")
+                .build());
+
+        Long lastOrderId = null;
+        for (int i = 0; i < size; i++) {
+            cartService.addItemToCart(user.getId(), AddToCartRequest.builder()
+                    .productId(products.get(i).getId())
+                    .quantity(1)
+                    .build());
+            cartService.addItemToCart(user.getId(), AddToCartRequest.builder()
+                    .productId(products.get((i + 1) % products.size()).getId())
+                    .quantity(2)
+                    .build());
+            OrderResponse order = orderService.createOrder(user.getId());
+            lastOrderId = order.getId();
+        }
+
+        for (int i = 0; i < size; i++) {
+            cartService.addItemToCart(user.getId(), AddToCartRequest.builder()
+                    .productId(products.get(i).getId())
+                    .quantity(1)
+                    .build());
+        }
+
+        String token = jwtTokenProvider.generateToken(UserResponse.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .createdAt(user.getCreatedAt())
+                .build());
+        return new Fixture(size, user.getId(), lastOrderId, new Cookie("authToken", token));
+    }
+
+    private record Fixture(int size, Long userId, Long lastOrderId, Cookie authCookie) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.valderson.shoppingcart.querybudget;
+
+import com.valderson.shoppingcart.dto.response.OrderResponse;
+import com.valderson.shoppingcart.enums.OrderStatus;
+import com.valderson.shoppingcart.service.OrderViewService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Documento de leitura novo: o id vem do pedido, e mesmo assim o save vai direto ao INSERT,
+ * sem o SELECT que o merge faria para descobrir se a linha já existe.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.valderson.shoppingcart.querybudget.CountingStatementInspector",
+        "rate-limit.enabled=false"
+})
+class OrderViewInsertTest {
+
+    private static final Long ORDER_ID = 900_001L;
+    private static final Long USER_ID = 900_002L;
+
+    @Autowired
+    private OrderViewService orderViewService;
+
+    @Test
+    void newViewIsSavedWithSingleInsert() {
+        OrderResponse order = OrderResponse.builder()
+                .id(ORDER_ID)
+                .userId(USER_ID)
+                .status(OrderStatus.PENDING)
+                .totalAmount(new BigDecimal("10.00"))
+                .createdAt(LocalDateTime.now())
+                .items(List.of())
+                .build();
+
+        CountingStatementInspector.start();
+        try {
+            orderViewService.save(order);
+        } finally {
+            assertEquals(1, CountingStatementInspector.stop(), "documento novo: só o INSERT");
+        }
+
+        assertTrue(orderViewService.findUserOrder(USER_ID, ORDER_ID).isPresent());
+    }
+}
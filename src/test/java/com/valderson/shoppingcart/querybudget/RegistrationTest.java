@@ -0,0 +1,135 @@
+package com.valderson.shoppingcart.querybudget;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.valderson.shoppingcart.entity.User;
+import com.valderson.shoppingcart.repository.ShoppingCartRepository;
+import com.valderson.shoppingcart.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Cadastro contra o índice único de email normalizado: o usuário novo ganha o carrinho
+ * com dois INSERTs, e o mesmo email com outra grafia volta 409, seja barrado antes do
+ * hash da senha, seja pelo índice quando outro cadastro ganhou a corrida. Violações de
+ * outras restrições não viram 409.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.valderson.shoppingcart.querybudget.CountingStatementInspector",
+        "rate-limit.enabled=false"
+})
+class RegistrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ShoppingCartRepository shoppingCartRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void newUserIsCreatedWithCartInTwoInserts() throws Exception {
+        CountingStatementInspector.start();
+        MockHttpServletResponse response;
+        try {
+            response = register("cart-provisioning@test.com");
+        } finally {
+            assertEquals(2, CountingStatementInspector.stop(), "cadastro novo: INSERT do usuário e do carrinho");
+        }
+
+        assertEquals(201, response.getStatus());
+        long userId = objectMapper.readTree(response.getContentAsString()).get("id").asLong();
+        assertTrue(shoppingCartRepository.findByUserId(userId).isPresent(), "carrinho criado no cadastro");
+    }
+
+    @Test
+    void emailDifferingOnlyInCaseIsRejected() throws Exception {
+        assertEquals(201, register("Case.Insensitive@Test.com").getStatus());
+
+        MockHttpServletResponse duplicate = register("CASE.INSENSITIVE@test.COM");
+
+        assertEquals(409, duplicate.getStatus());
+        assertEquals(1, usersWithEmail("case.insensitive@test.com"));
+    }
+
+    @Test
+    void registrationLosingRaceOnUniqueIndexReturnsConflict() throws Exception {
+        // Cadastro feito por outra instância: fora do filtro de emails desta, só o índice barra
+        userRepository.save(User.builder()
+                .name("Outra instância")
+                .email("race@test.com")
+                .passwordHash("hash")
+                .build());
+        long cartsBefore = shoppingCartRepository.count();
+
+        MockHttpServletResponse duplicate = register("Race@Test.com");
+
+        assertEquals(409, duplicate.getStatus());
+        assertEquals(1, usersWithEmail("race@test.com"));
+        assertEquals(cartsBefore, shoppingCartRepository.count(), "o carrinho sai no rollback do cadastro");
+    }
+
+    @Test
+    void otherIntegrityViolationIsNotReportedAsDuplicateEmail() throws Exception {
+        // Email válido, mas maior que a coluna (255): a violação não é de email duplicado
+        String domain = "d".repeat(60) + "." + "o".repeat(60) + "." + "m".repeat(60) + "." + "a".repeat(60) + ".com";
+        MockHttpServletResponse response = register("long-email@" + domain);
+
+        assertEquals(400, response.getStatus());
+        assertFalse(response.getContentAsString().contains("Email já está em uso"), response.getContentAsString());
+    }
+
+    @Test
+    void sameEmailRegisteredByAnotherInstanceReturnsConflict() throws Exception {
+        // Mesma grafia: as duas restrições únicas (email e email normalizado) valem
+        userRepository.save(User.builder()
+                .name("Outra instância")
+                .email("exact-race@test.com")
+                .passwordHash("hash")
+                .build());
+
+        assertEquals(409, register("exact-race@test.com").getStatus());
+    }
+
+    private MockHttpServletResponse register(final String email) throws Exception {
+        return mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "name", "Usuário cadastro",
+                                "email", email,
+                                "password", "register-password"))))
+                .andReturn()
+                .getResponse();
+    }
+
+    private int usersWithEmail(final String normalizedEmail) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email_normalized = ?", Integer.class, normalizedEmail);
+    }
+}
@@ -0,0 +1,63 @@
+package com.valderson.shoppingcart.security;
+
+import com.valderson.shoppingcart.dto.response.UserResponse;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Actuator na mesma porta da API: health responde sem autenticação, prometheus só para ADMIN.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class ActuatorSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    void healthIsPublic() throws Exception {
+        assertEquals(200, status("/actuator/health", null));
+    }
+
+    @Test
+    void prometheusRequiresAdmin() throws Exception {
+        assertEquals(403, status("/actuator/prometheus", null));
+        assertEquals(403, status("/actuator/prometheus", authCookie(2L, "customer@test.com")));
+        assertEquals(200, status("/actuator/prometheus", authCookie(1L, "admin@admin.com")));
+    }
+
+    private int status(final String path, final Cookie cookie) throws Exception {
+        MockHttpServletRequestBuilder request = get(path);
+        if (cookie != null) {
+            request.cookie(cookie);
+        }
+        return mockMvc.perform(request).andReturn().getResponse().getStatus();
+    }
+
+    private Cookie authCookie(final Long userId, final String email) {
+        String token = jwtTokenProvider.generateToken(UserResponse.builder()
+                .id(userId)
+                .name("Usuário actuator")
+                .email(email)
+                .createdAt(LocalDateTime.now())
+                .build());
+        return new Cookie("authToken", token);
+    }
+}
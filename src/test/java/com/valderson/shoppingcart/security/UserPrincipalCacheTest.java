@@ -0,0 +1,43 @@
+package com.valderson.shoppingcart.security;
+
+import com.valderson.shoppingcart.config.UserCacheConfig;
+import com.valderson.shoppingcart.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Cache cheio: descarta os usuários consultados há mais tempo, sem esvaziar tudo e derrubar
+ * quem está ativo.
+ */
+class UserPrincipalCacheTest {
+
+    private static final int MAX_SIZE = 100;
+    private static final long HOT_USER_ID = 0L;
+
+    @Test
+    void fullCacheKeepsRecentlyUsedEntries() {
+        UserCacheConfig config = new UserCacheConfig();
+        config.setMaxSize(MAX_SIZE);
+        UserPrincipalCache cache = new UserPrincipalCache(config);
+        cache.init();
+
+        cache.put(user(HOT_USER_ID));
+        for (long id = 1; id <= MAX_SIZE * 10; id++) {
+            cache.put(user(id));
+            assertNotNull(cache.get(HOT_USER_ID), "usuário ativo descartado na inserção " + id);
+        }
+
+        assertNull(cache.get(1L), "entrada mais antiga continua em cache");
+        assertNotNull(cache.get((long) MAX_SIZE * 10));
+    }
+
+    private static UserResponse user(final long id) {
+        return UserResponse.builder()
+                .id(id)
+                .name("Usuário " + id)
+                .email("user-" + id + "@test.com")
+                .build();
+    }
+}
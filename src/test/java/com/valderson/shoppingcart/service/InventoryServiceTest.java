@@ -0,0 +1,189 @@
+package com.valderson.shoppingcart.service;
+
+import com.valderson.shoppingcart.config.InventoryConfig;
+import com.valderson.shoppingcart.entity.Product;
+import com.valderson.shoppingcart.entity.ProductInventory;
+import com.valderson.shoppingcart.repository.ProductInventoryRepository;
+import com.valderson.shoppingcart.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Reserva de estoque no H2: produto sem linha de estoque recusado, lotes em memória sob
+ * concorrência (sem vender além do estoque), queda para o banco com o lote vazio e devolução
+ * das unidades na reconciliação e no rollback.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "inventory.lease-size=10",
+        "inventory.reconcile-interval-ms=3600000"
+})
+class InventoryServiceTest {
+
+    private static final int THREADS = 16;
+
+    private final Set<Long> hotProductIds = new HashSet<>();
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryConfig inventoryConfig;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductInventoryRepository inventoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void restoreHotProducts() {
+        inventoryConfig.getHotProductIds().removeAll(hotProductIds);
+        hotProductIds.clear();
+    }
+
+    @Test
+    void productWithoutInventoryRowIsRejected() {
+        Long productId = createProduct(null);
+
+        RuntimeException error = assertThrows(RuntimeException.class, () -> inventoryService.reserve(productId, 1));
+
+        assertEquals("Produto " + productId + " sem estoque cadastrado", error.getMessage());
+        assertTrue(inventoryRepository.findStockByProductId(productId).isEmpty());
+    }
+
+    @Test
+    void emptyLeaseFallsBackToDatabaseRow() {
+        Long productId = createHotProduct(30);
+
+        inventoryService.reserve(productId, 3);
+        assertEquals(27, stock(productId));
+
+        inventoryService.reconcileLeases();
+        assertEquals(17, stock(productId));
+        inventoryService.reserve(productId, 3);
+        assertEquals(17, stock(productId));
+    }
+
+    @Test
+    void concurrentLeaseReservationsNeverOversell() throws Exception {
+        Long productId = createHotProduct(100);
+        inventoryService.reconcileLeases();
+
+        AtomicInteger reserved = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                tasks.add(executor.submit(() -> {
+                    start.await();
+                    for (int attempt = 0; attempt < 10; attempt++) {
+                        try {
+                            inventoryService.reserve(productId, 1);
+                            reserved.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            // Estoque esgotado
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(100, reserved.get());
+        inventoryService.returnAllLeases();
+        assertEquals(0, stock(productId));
+    }
+
+    @Test
+    void rolledBackReservationReturnsUnitsToLease() {
+        Long productId = createHotProduct(20);
+        inventoryService.reconcileLeases();
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            inventoryService.reserve(productId, 5);
+            status.setRollbackOnly();
+        });
+
+        inventoryService.returnAllLeases();
+        assertEquals(20, stock(productId));
+    }
+
+    @Test
+    void reconcileReturnsSurplusAboveLeaseSize() {
+        Long productId = createHotProduct(30);
+
+        // A reconciliação retira um lote de 10; a reserva deixa 9 no lote e 20 no banco
+        inventoryService.reconcileLeases();
+        inventoryService.reserve(productId, 1);
+        assertEquals(20, stock(productId));
+
+        // Cancelamentos devolvem 6 ao lote (15 unidades); 5 passam do tamanho do lote
+        inventoryService.release(productId, 6);
+        inventoryService.reconcileLeases();
+        assertEquals(25, stock(productId));
+
+        inventoryService.returnAllLeases();
+        assertEquals(35, stock(productId));
+    }
+
+    private Long createHotProduct(final int stock) {
+        Long productId = createProduct(stock);
+        // Restaurado no @AfterEach: a configuração é o singleton do contexto compartilhado
+        inventoryConfig.getHotProductIds().add(productId);
+        hotProductIds.add(productId);
+        return productId;
+    }
+
+    private Long createProduct(final Integer stock) {
+        Product product = productRepository.save(Product.builder()
+                .name("Produto estoque")
+                .price(new BigDecimal("10.00"))
+                .build());
+        if (stock != null) {
+            inventoryRepository.save(ProductInventory.builder()
+                    .productId(product.getId())
+                    .stock(stock)
+                    .build());
+        }
+        return product.getId();
+    }
+
+    private int stock(final Long productId) {
+        return inventoryRepository.findStockByProductId(productId).orElseThrow();
+    }
+}
@@ -0,0 +1,145 @@
+package com.valderson.shoppingcart.service;
+
+import com.valderson.shoppingcart.dto.request.AddToCartRequest;
+import com.valderson.shoppingcart.dto.request.BulkOrderStatusRequest;
+import com.valderson.shoppingcart.dto.response.OrderResponse;
+import com.valderson.shoppingcart.dto.response.OrderSummaryResponse;
+import com.valderson.shoppingcart.entity.Product;
+import com.valderson.shoppingcart.entity.ProductInventory;
+import com.valderson.shoppingcart.entity.User;
+import com.valderson.shoppingcart.enums.OrderStatus;
+import com.valderson.shoppingcart.repository.ProductInventoryRepository;
+import com.valderson.shoppingcart.repository.ProductRepository;
+import com.valderson.shoppingcart.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Histórico de pedidos com parte dos pedidos já movida para o arquivo: a lista completa
+ * e a paginada continuam mostrando todos, do mais recente para o mais antigo, inclusive
+ * pedidos que ainda não têm documento no modelo de leitura.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderHistoryTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductInventoryRepository productInventoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void historyIncludesArchivedOrders() {
+        Long userId = createUser("history-archive@test.com");
+        Long productId = createProduct();
+
+        OrderResponse archived = placeOrder(userId, productId, 2);
+        confirmAndAge(archived.getId());
+        OrderResponse recent = placeOrder(userId, productId, 1);
+
+        assertEquals(1, orderArchiveService.archiveFinishedOrders());
+
+        List<OrderResponse> history = orderService.getUserOrders(userId);
+        assertEquals(List.of(recent.getId(), archived.getId()), history.stream().map(OrderResponse::getId).toList());
+        assertEquals(OrderStatus.CONFIRMED, history.get(1).getStatus());
+        assertEquals(2, history.get(1).getItems().get(0).getQuantity());
+
+        List<OrderSummaryResponse> summaries = orderService.getUserOrderSummaries(userId, 0, 10);
+        assertEquals(List.of(recent.getId(), archived.getId()),
+                summaries.stream().map(OrderSummaryResponse::getId).toList());
+    }
+
+    @Test
+    void ordersWithoutReadModelDocumentStayInHistoryUntilBackfilled() {
+        Long userId = createUser("history-backfill@test.com");
+        Long productId = createProduct();
+
+        OrderResponse archived = placeOrder(userId, productId, 1);
+        confirmAndAge(archived.getId());
+        OrderResponse hot = placeOrder(userId, productId, 3);
+        orderArchiveService.archiveFinishedOrders();
+        assertEquals(2, viewCount(userId), "o arquivamento mantém o documento de leitura");
+
+        // Pedidos anteriores ao modelo de leitura: ainda sem documento
+        jdbcTemplate.update("DELETE FROM order_views WHERE user_id = ?", userId);
+
+        List<OrderResponse> history = orderService.getUserOrders(userId);
+        assertEquals(List.of(hot.getId(), archived.getId()), history.stream().map(OrderResponse::getId).toList());
+        assertEquals(3, history.get(0).getItems().get(0).getQuantity());
+
+        while (orderService.backfillOrderViews(100) > 0) {
+            // Processa também pedidos sem documento criados por outros testes
+        }
+        assertEquals(2, viewCount(userId));
+        assertEquals(history, orderService.getUserOrders(userId));
+    }
+
+    private int viewCount(final Long userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_views WHERE user_id = ?", Integer.class, userId);
+    }
+
+    private OrderResponse placeOrder(final Long userId, final Long productId, final int quantity) {
+        cartService.addItemToCart(userId, AddToCartRequest.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .build());
+        return orderService.createOrder(userId);
+    }
+
+    // Confirmado e com data anterior ao corte do arquivo (orders.archive.min-age-days)
+    private void confirmAndAge(final Long orderId) {
+        orderService.bulkUpdateStatus(BulkOrderStatusRequest.builder()
+                .orderIds(List.of(orderId))
+                .fromStatus(OrderStatus.PENDING)
+                .toStatus(OrderStatus.CONFIRMED)
+                .build());
+        jdbcTemplate.update("UPDATE orders SET created_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusYears(1)), orderId);
+    }
+
+    private Long createUser(final String email) {
+        return userRepository.save(User.builder()
+                .name("Usuário histórico")
+                .email(email)
+                .passwordHash("hash")
+                .build()).getId();
+    }
+
+    private Long createProduct() {
+        Product product = productRepository.save(Product.builder()
+                .name("Produto histórico")
+                .price(new BigDecimal("10.00"))
+                .build());
+        productInventoryRepository.save(ProductInventory.builder()
+                .productId(product.getId())
+                .stock(100)
+                .build());
+        return product.getId();
+    }
+}
@@ -0,0 +1,147 @@
+package com.valderson.shoppingcart.service;
+
+import com.valderson.shoppingcart.dto.request.AddToCartRequest;
+import com.valderson.shoppingcart.dto.response.OrderResponse;
+import com.valderson.shoppingcart.entity.Product;
+import com.valderson.shoppingcart.entity.ProductInventory;
+import com.valderson.shoppingcart.entity.User;
+import com.valderson.shoppingcart.repository.ProductInventoryRepository;
+import com.valderson.shoppingcart.repository.ProductRepository;
+import com.valderson.shoppingcart.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Agregados diários a partir do outbox: lotes sucessivos somam sobre a linha existente
+ * do dia/produto, e a limpeza do outbox não depende dos agregados quando eles estão
+ * desligados (analytics.rollup-enabled=false no perfil de teste).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SalesRollupTest {
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductInventoryRepository productInventoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void successiveBatchesAddToExistingRows() {
+        Long userId = createUser("rollup-sum@test.com");
+        Long productId = createProduct("10.00");
+
+        // Eventos de outros testes ficam fora da comparação
+        salesRollupService.rollup();
+        Map<String, Object> dayBefore = day();
+
+        placeOrder(userId, productId, 2);
+        salesRollupService.rollup();
+        assertEquals(2L, productQuantity(productId));
+
+        placeOrder(userId, productId, 3);
+        salesRollupService.rollup();
+        assertEquals(5L, productQuantity(productId));
+
+        Map<String, Object> dayAfter = day();
+        assertEquals(2L, count(dayAfter, "order_count") - count(dayBefore, "order_count"));
+        assertEquals(5L, count(dayAfter, "item_count") - count(dayBefore, "item_count"));
+        assertEquals(0, new BigDecimal("50.00").compareTo(revenue(dayAfter).subtract(revenue(dayBefore))));
+    }
+
+    @Test
+    void purgeDeletesPublishedEventsWhenRollupIsDisabled() {
+        Long userId = createUser("rollup-purge@test.com");
+        Long productId = createProduct("5.00");
+        OrderResponse order = placeOrder(userId, productId, 1);
+
+        outboxDispatcher.dispatch();
+        jdbcTemplate.update("UPDATE order_outbox SET published_at = ? WHERE aggregate_id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusYears(1)), order.getId());
+
+        outboxDispatcher.purgePublished();
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM order_outbox WHERE aggregate_id = ?", Integer.class, order.getId()));
+    }
+
+    private Map<String, Object> day() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT order_count, item_count, revenue FROM daily_sales WHERE sales_date = ?",
+                Date.valueOf(LocalDate.now()));
+        return rows.isEmpty() ? Map.of("order_count", 0L, "item_count", 0L, "revenue", BigDecimal.ZERO) : rows.get(0);
+    }
+
+    private static long count(final Map<String, Object> day, final String column) {
+        return ((Number) day.get(column)).longValue();
+    }
+
+    private static BigDecimal revenue(final Map<String, Object> day) {
+        return (BigDecimal) day.get("revenue");
+    }
+
+    private long productQuantity(final Long productId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT quantity FROM daily_product_sales WHERE sales_date = ? AND product_id = ?",
+                Long.class, Date.valueOf(LocalDate.now()), productId);
+    }
+
+    private OrderResponse placeOrder(final Long userId, final Long productId, final int quantity) {
+        cartService.addItemToCart(userId, AddToCartRequest.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .build());
+        return orderService.createOrder(userId);
+    }
+
+    private Long createUser(final String email) {
+        return userRepository.save(User.builder()
+                .name("Usuário agregados")
+                .email(email)
+                .passwordHash("hash")
+                .build()).getId();
+    }
+
+    private Long createProduct(final String price) {
+        Product product = productRepository.save(Product.builder()
+                .name("Produto agregados")
+                .price(new BigDecimal(price))
+                .build());
+        productInventoryRepository.save(ProductInventory.builder()
+                .productId(product.getId())
+                .stock(100)
+                .build());
+        return product.getId();
+    }
+}
@@ -0,0 +1,52 @@
+package com.valderson.shoppingcart.service;
+
+import com.valderson.shoppingcart.repository.RevokedTokenRepository;
+import com.valderson.shoppingcart.security.JwtPrincipal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * Logout concorrente com o mesmo token: quem perde a corrida do INSERT encontra a chave
+ * primária ocupada e trata o token como já revogado, sem erro para o cliente.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TokenRevocationServiceTest {
+
+    private static final String JTI = "revocation-race-jti";
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @MockitoSpyBean
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Test
+    void revokeLosingInsertRaceIsTreatedAsRevoked() {
+        JwtPrincipal principal = new JwtPrincipal(7L, "revocation@test.com", JTI, "Usuário revogação",
+                LocalDateTime.now(), System.currentTimeMillis(),
+                System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1));
+        tokenRevocationService.revoke(principal);
+
+        // A outra requisição consultou antes do INSERT desta: as duas seguem para o save
+        doReturn(false).when(revokedTokenRepository).existsById(JTI);
+
+        assertDoesNotThrow(() -> tokenRevocationService.revoke(principal));
+        assertEquals(1, revokedTokenRepository.findActiveJtis(LocalDateTime.now()).stream()
+                .filter(JTI::equals)
+                .count());
+        doReturn(true).when(revokedTokenRepository).existsById(JTI);
+        assertTrue(tokenRevocationService.isRevoked(principal));
+    }
+}